@@ -0,0 +1,62 @@
+package semillero.ecosistema.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${image.upload.threads:8}")
+    private int imageUploadThreads;
+
+    @Value("${image.upload.queue-capacity:100}")
+    private int imageUploadQueueCapacity;
+
+    @Value("${supplier.import.threads:4}")
+    private int supplierImportThreads;
+
+    @Value("${supplier.import.max-queued-jobs:5}")
+    private int supplierImportMaxQueuedJobs;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadThreads);
+        executor.setMaxPoolSize(imageUploadThreads);
+        executor.setQueueCapacity(imageUploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        // Si la cola se llena, la subida se ejecuta en el hilo de la solicitud en lugar de rechazarse
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor supplierImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(supplierImportThreads);
+        executor.setMaxPoolSize(supplierImportThreads);
+        executor.setQueueCapacity(supplierImportThreads * 2);
+        executor.setThreadNamePrefix("supplier-import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor supplierImportJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        // Las importaciones se procesan de a una; si hay demasiadas en espera, se rechazan
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(supplierImportMaxQueuedJobs);
+        executor.setThreadNamePrefix("supplier-import-job-");
+        executor.initialize();
+        return executor;
+    }
+}
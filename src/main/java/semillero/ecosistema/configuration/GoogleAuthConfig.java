@@ -0,0 +1,31 @@
+package semillero.ecosistema.configuration;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import semillero.ecosistema.utils.CachingGoogleIdTokenVerifier;
+import semillero.ecosistema.utils.CachingGooglePublicKeysManager;
+
+@Configuration
+public class GoogleAuthConfig {
+
+    @Value("${google.auth.certs-url:https://www.googleapis.com/oauth2/v1/certs}")
+    private String certsUrl;
+
+    @Value("${google.auth.retry-seconds:30}")
+    private long retrySeconds;
+
+    @Bean
+    public CachingGooglePublicKeysManager googlePublicKeysManager() {
+        return new CachingGooglePublicKeysManager(
+                new NetHttpTransport(), GsonFactory.getDefaultInstance(), certsUrl, retrySeconds * 1000);
+    }
+
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(CachingGooglePublicKeysManager googlePublicKeysManager) {
+        return new CachingGoogleIdTokenVerifier(googlePublicKeysManager);
+    }
+}
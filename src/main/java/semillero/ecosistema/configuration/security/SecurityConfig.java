@@ -43,6 +43,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET,"/api/provinces/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/suppliers/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/publication/**").permitAll()
+                        .requestMatchers(HttpMethod.GET,"/api/images/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .cors(cors -> cors
@@ -1,7 +1,5 @@
 package semillero.ecosistema.controllers;
 
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +9,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import semillero.ecosistema.entities.User;
+import semillero.ecosistema.services.GoogleAuthService;
 import semillero.ecosistema.services.UserService;
 
 import java.io.IOException;
@@ -19,7 +18,6 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import semillero.ecosistema.utils.JwtService;
 
 @RestController
@@ -32,6 +30,9 @@ public class AuthController {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private GoogleAuthService googleAuthService;
+
     @PostMapping("/googleAuth")
     public ResponseEntity<?> authWithGoogle(@RequestParam Map<String, String> payload) throws GeneralSecurityException, IOException {
         try {
@@ -42,18 +43,14 @@ public class AuthController {
                 throw new Exception("El token no fue proporcionado");
             }
 
-            // Verificar la validez del token de Google
-            GoogleIdTokenVerifier verifier =
-                    new GoogleIdTokenVerifier.Builder(new NetHttpTransport(), new GsonFactory()).build();
-
-            GoogleIdToken idToken = verifier.verify(googleTokenId);
+            // Verificar la validez del token de Google con las claves públicas en caché
+            GoogleIdToken.Payload googleUserPayload = googleAuthService.verify(googleTokenId);
 
-            if (idToken == null) {
+            if (googleUserPayload == null) {
                 throw new Exception("El token de Google no es válido");
             }
 
             // Obtener datos del usuario de Google
-            GoogleIdToken.Payload googleUserPayload = idToken.getPayload();
 
             String email = googleUserPayload.getEmail();
             String name = (String) googleUserPayload.get("given_name");
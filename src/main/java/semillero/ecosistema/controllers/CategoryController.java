@@ -8,9 +8,13 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import semillero.ecosistema.dtos.category.CategoryDTO;
+import semillero.ecosistema.enumerations.ResourceCollection;
 import semillero.ecosistema.services.CategoryService;
+import semillero.ecosistema.services.ReferenceDataCache;
+import semillero.ecosistema.utils.ConditionalGet;
 
 import java.io.IOException;
 
@@ -21,11 +25,14 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @GetMapping("")
-    public ResponseEntity<?> getAll() {
+    @ConditionalGet(ResourceCollection.CATEGORIES)
+    public ResponseEntity<?> getAll(WebRequest request) {
         try {
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(categoryService.findAll());
+            return referenceDataCache.getCategoriesJson().toResponse(request);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"Error Interno del Servidor.\"}");
@@ -33,6 +40,7 @@ public class CategoryController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(ResourceCollection.CATEGORIES)
     public ResponseEntity<?> getById(@PathVariable Long id) {
         try {
             return ResponseEntity.status(HttpStatus.OK)
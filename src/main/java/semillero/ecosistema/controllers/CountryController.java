@@ -5,12 +5,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import semillero.ecosistema.entities.Country;
-import semillero.ecosistema.entities.Province;
+import semillero.ecosistema.enumerations.ResourceCollection;
 import semillero.ecosistema.services.CountryService;
-import semillero.ecosistema.services.ProvinceService;
+import semillero.ecosistema.services.ReferenceDataCache;
+import semillero.ecosistema.utils.ConditionalGet;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -21,9 +22,10 @@ public class CountryController {
     private CountryService countryService;
 
     @Autowired
-    private ProvinceService provinceService;
+    private ReferenceDataCache referenceDataCache;
 
     @GetMapping("/{Id}")
+    @ConditionalGet(ResourceCollection.COUNTRIES)
     public ResponseEntity<?> getCountryById(@PathVariable("id") Long id) {
         try {
             Optional<Country> country = countryService.findById(id);
@@ -38,10 +40,10 @@ public class CountryController {
     }
 
     @GetMapping("")
-    public ResponseEntity<?> getAllCountries() {
+    @ConditionalGet(ResourceCollection.COUNTRIES)
+    public ResponseEntity<?> getAllCountries(WebRequest request) {
         try {
-            List<Country> countries = countryService.findAllCountries();
-            return ResponseEntity.ok(countries);
+            return referenceDataCache.getCountriesJson().toResponse(request);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"An error occurred while processing the request.\"}");
@@ -49,10 +51,10 @@ public class CountryController {
     }
 
     @GetMapping("/{countryId}/provinces")
-    public ResponseEntity<?> getProvincesByCountry(@PathVariable Long countryId) {
+    @ConditionalGet(ResourceCollection.PROVINCES)
+    public ResponseEntity<?> getProvincesByCountry(@PathVariable Long countryId, WebRequest request) {
         try {
-            List<Province> provincesByIdCountry = provinceService.getProvincesByCountry(countryId);
-            return ResponseEntity.ok(provincesByIdCountry);
+            return referenceDataCache.getProvincesByCountryJson(countryId).toResponse(request);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"An error occurred while processing the request.\"}");
@@ -5,10 +5,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import semillero.ecosistema.entities.Province;
+import semillero.ecosistema.enumerations.ResourceCollection;
 import semillero.ecosistema.services.ProvinceService;
+import semillero.ecosistema.services.ReferenceDataCache;
+import semillero.ecosistema.utils.ConditionalGet;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -18,7 +21,11 @@ public class ProvinceController {
     @Autowired
     private ProvinceService provinceService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
     @GetMapping("/{id}")
+    @ConditionalGet(ResourceCollection.PROVINCES)
     public ResponseEntity<?> getProvinceById(@PathVariable("id") Long id) {
         try {
             Optional<Province> province = provinceService.findById(id);
@@ -33,10 +40,10 @@ public class ProvinceController {
     }
 
     @GetMapping("")
-    public ResponseEntity<?> getAllProvinces() {
+    @ConditionalGet(ResourceCollection.PROVINCES)
+    public ResponseEntity<?> getAllProvinces(WebRequest request) {
         try {
-            List<Province> provinces = provinceService.findAllProvinces();
-            return ResponseEntity.ok(provinces);
+            return referenceDataCache.getProvincesJson().toResponse(request);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"An error occurred while processing the request.\"}");
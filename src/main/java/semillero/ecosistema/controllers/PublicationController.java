@@ -10,10 +10,12 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import semillero.ecosistema.dtos.publication.PublicationRequestDTO;
+import semillero.ecosistema.enumerations.ResourceCollection;
 import semillero.ecosistema.exceptions.PublicationNotFoundException;
 
 import semillero.ecosistema.services.PublicationService;
 import semillero.ecosistema.responses.ErrorResponse;
+import semillero.ecosistema.utils.ConditionalGet;
 
 import java.io.IOException;
 import java.util.List;
@@ -106,6 +108,7 @@ public class PublicationController {
         }
     }
     @GetMapping("/all-active")
+    @ConditionalGet(ResourceCollection.PUBLICATIONS)
     public ResponseEntity<?> getAllActivePublications() {
         try {
             return ResponseEntity.ok(publicationService.getAllActivePublications());
@@ -0,0 +1,33 @@
+package semillero.ecosistema.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.services.StatisticsRollupService;
+
+@RestController
+@RequestMapping("api/statistics")
+public class StatisticsController {
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @GetMapping("/trend")
+    @PreAuthorize("hasAuthority('ADMINISTRADOR')")
+    public ResponseEntity<?> getTrend(
+            @RequestParam(name = "metric") StatisticsMetric metric,
+            @RequestParam(name = "dimension", required = false) String dimension,
+            @RequestParam(name = "months", required = false, defaultValue = "6") Integer months
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(statisticsRollupService.getMonthlyTrend(metric, dimension, Math.min(months, 120)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+}
@@ -3,19 +3,27 @@ package semillero.ecosistema.controllers;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import semillero.ecosistema.dtos.supplier.SupplierFeedbackDTO;
 import semillero.ecosistema.dtos.supplier.SupplierRequestDTO;
+import semillero.ecosistema.enumerations.ResourceCollection;
 import semillero.ecosistema.exceptions.GeocodingException;
 import semillero.ecosistema.exceptions.MaxSuppliersReachedException;
+import semillero.ecosistema.services.AutocompleteService;
+import semillero.ecosistema.services.SupplierDirectoryService;
+import semillero.ecosistema.services.SupplierImportService;
 import semillero.ecosistema.services.SupplierService;
+import semillero.ecosistema.utils.ConditionalGet;
 
 import java.io.IOException;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -25,12 +33,21 @@ public class SupplierController {
     @Autowired
     private SupplierService service;
 
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private SupplierDirectoryService supplierDirectoryService;
+
+    @Autowired
+    private SupplierImportService supplierImportService;
+
     @GetMapping("")
     @PreAuthorize("hasAuthority('ADMINISTRADOR')")
-    public ResponseEntity<?> getAll() {
+    public ResponseEntity<?> getAll(@RequestParam(name = "limit", required = false) Integer limit) {
         try {
             return ResponseEntity.status(HttpStatus.OK)
-                    .body(service.findAll());
+                    .body(service.findAll(limit));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"Error Interno del Servidor.\"}");
@@ -38,6 +55,7 @@ public class SupplierController {
     }
 
     @GetMapping("/allNames")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
     public ResponseEntity<?> getAllAcceptedNames() {
         try {
             return ResponseEntity.status(HttpStatus.OK)
@@ -48,11 +66,26 @@ public class SupplierController {
         }
     }
 
-    @GetMapping("/allAccepted")
-    public ResponseEntity<?> getAllAccepted() {
+    @GetMapping("/autocomplete")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> autocomplete(
+            @RequestParam(name = "q", required = true) String query,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") Integer limit
+    ) {
         try {
             return ResponseEntity.status(HttpStatus.OK)
-                    .body(service.findAllAccepted());
+                    .body(autocompleteService.suggest(query, Math.min(limit, 50)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
+    @GetMapping("/allAccepted")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAccepted(WebRequest request) {
+        try {
+            return supplierDirectoryService.getAccepted().toResponse(request);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"Error Interno del Servidor.\"}");
@@ -60,6 +93,7 @@ public class SupplierController {
     }
 
     @GetMapping("/searchByName")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
     public ResponseEntity<?> getAllAcceptedByName(@RequestParam(name = "name", required = true) String name) {
         try {
             return ResponseEntity.status(HttpStatus.OK)
@@ -77,10 +111,18 @@ public class SupplierController {
     }
 
     @GetMapping("/searchByCategory")
-    public ResponseEntity<?> getAllAcceptedByCategory(@RequestParam(name = "category", required = true) String category) {
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedByCategory(
+            @RequestParam(name = "category", required = true) String category,
+            WebRequest request
+    ) {
         try {
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body(service.findAllAcceptedByCategory(category));
+            Long categoryId = supplierDirectoryService.findCategoryId(category)
+                    .orElseThrow(() -> new IllegalArgumentException("Category not found with name: " + category));
+
+            return supplierDirectoryService.getAcceptedByCategory(categoryId)
+                    .orElseThrow(() -> new EntityNotFoundException("Supplier not found with category: " + category))
+                    .toResponse(request);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("{\"error\": \"Categoria no encontrada.\"}");
@@ -93,7 +135,22 @@ public class SupplierController {
         }
     }
 
+    @GetMapping("/searchByProvince")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedByProvince(
+            @RequestParam(name = "provinceId", required = true) Long provinceId,
+            WebRequest request
+    ) {
+        try {
+            return supplierDirectoryService.getAcceptedByProvince(provinceId).toResponse(request);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
     @GetMapping("/searchByLocation")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
     public ResponseEntity<?> getAllAcceptedByLocation(
             @RequestParam(name = "lat", required = false) Double latitude,
             @RequestParam(name = "lng", required = false) Double longitude
@@ -110,6 +167,103 @@ public class SupplierController {
         }
     }
 
+    @GetMapping("/allAccepted/paged")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedPaged(
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "cursor", required = false) Long cursor
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.findAllAcceptedSlice(page, size, cursor));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
+    @GetMapping("/searchByName/paged")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedByNamePaged(
+            @RequestParam(name = "name", required = true) String name,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.findAllAcceptedByNameSlice(name, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"La consulta no puede estar vacía.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
+    @GetMapping("/searchByCategory/paged")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedByCategoryPaged(
+            @RequestParam(name = "category", required = true) String category,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "cursor", required = false) Long cursor
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.findAllAcceptedByCategorySlice(category, page, size, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"Categoria no encontrada.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
+    @GetMapping("/searchByLocation/paged")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedByLocationPaged(
+            @RequestParam(name = "lat", required = false) Double latitude,
+            @RequestParam(name = "lng", required = false) Double longitude,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "cursor", required = false) Long cursor
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.findAllAcceptedByLocationSlice(latitude, longitude, page, size, cursor));
+        } catch (GeocodingException e) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body("{\"error\": \"Error al obtener Proveedores por ubicación.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
+    @GetMapping("/searchNearby")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
+    public ResponseEntity<?> getAllAcceptedNearby(
+            @RequestParam(name = "lat", required = true) Double latitude,
+            @RequestParam(name = "lng", required = true) Double longitude,
+            @RequestParam(name = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.findAllAcceptedNearbySlice(latitude, longitude, radiusKm, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"Coordenadas inválidas.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error Interno del Servidor.\"}");
+        }
+    }
+
     @GetMapping("/me/{userId}")
     @PreAuthorize("hasAuthority('USUARIO_REGULAR')")
     public ResponseEntity<?> getAllByUserId(@PathVariable Long userId) {
@@ -141,6 +295,7 @@ public class SupplierController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(ResourceCollection.SUPPLIERS)
     public ResponseEntity<?> getById(@PathVariable Long id) {
         try {
             return ResponseEntity.status(HttpStatus.OK)
@@ -156,10 +311,14 @@ public class SupplierController {
 
     @GetMapping("/statistics")
     @PreAuthorize("hasAuthority('ADMINISTRADOR')")
-    public ResponseEntity<?> getStatistics() {
+    public ResponseEntity<?> getStatistics(
+            @RequestParam(name = "year", required = false) Integer year,
+            @RequestParam(name = "month", required = false) Integer month
+    ) {
         try {
+            YearMonth period = year == null || month == null ? YearMonth.now() : YearMonth.of(year, month);
             return ResponseEntity.status(HttpStatus.OK)
-                    .body(service.findStatistics());
+                    .body(service.findStatistics(period));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"Error Interno del Servidor.\"}");
@@ -209,6 +368,52 @@ public class SupplierController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority('ADMINISTRADOR')")
+    public ResponseEntity<?> importSuppliers(
+            @RequestParam(name = "file") MultipartFile file,
+            @RequestParam(name = "format", required = false) String format,
+            @RequestParam(name = "userId") Long userId
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(supplierImportService.start(file, format, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"Usuario o formato de archivo no válido.\"}");
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("{\"error\": \"Hay demasiadas importaciones en curso.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"Error al importar los Proveedores.\"}");
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAuthority('ADMINISTRADOR')")
+    public ResponseEntity<?> getImport(@PathVariable String jobId) {
+        return supplierImportService.getJob(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.status(HttpStatus.OK).body(job))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body("{\"error\": \"Importación no encontrada.\"}"));
+    }
+
+    @PutMapping("/feedback")
+    @PreAuthorize("hasAuthority('ADMINISTRADOR')")
+    public ResponseEntity<?> provideFeedback(@RequestBody List<SupplierFeedbackDTO> dtos) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(service.provideFeedback(dtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"La lista debe tener entre 1 y 500 Proveedores.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("{\"error\": \"Error al proporcionar feedback a los Proveedores.\"}");
+        }
+    }
+
     @PutMapping("/feedback/{id}")
     @PreAuthorize("hasAuthority('ADMINISTRADOR')")
     public ResponseEntity<?> provideFeedback(@PathVariable Long id, @RequestBody SupplierFeedbackDTO dto) {
@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.*;
 import semillero.ecosistema.entities.User;
 import semillero.ecosistema.services.UserService;
 
+import java.time.YearMonth;
+
 @RestController
 @RequestMapping("api/users")
 public class UserController {
@@ -28,10 +30,14 @@ public class UserController {
 
     @GetMapping("/user-statistics")
     @PreAuthorize("hasAuthority('ADMINISTRADOR')")
-    public ResponseEntity<?> getStatistics() {
+    public ResponseEntity<?> getStatistics(
+            @RequestParam(name = "year", required = false) Integer year,
+            @RequestParam(name = "month", required = false) Integer month
+    ) {
         try {
+            YearMonth period = year == null || month == null ? YearMonth.now() : YearMonth.of(year, month);
             return ResponseEntity.status(HttpStatus.OK)
-                    .body(service.getCountUsersCreatedThisMonth());
+                    .body(service.getCountUsersCreatedIn(period));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"Error Interno del Servidor.\"}");
@@ -7,4 +7,5 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 public class CategoryResponseDTO extends CategoryDTO {
     private String image;
+    private String thumbnail;
 }
@@ -0,0 +1,18 @@
+package semillero.ecosistema.dtos.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceDTO<T> {
+    private List<T> content;
+    private Integer page;
+    private Integer size;
+    private Boolean hasNext;
+    private Long nextCursor;
+}
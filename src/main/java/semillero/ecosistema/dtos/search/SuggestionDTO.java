@@ -0,0 +1,14 @@
+package semillero.ecosistema.dtos.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDTO {
+    private String type;
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,15 @@
+package semillero.ecosistema.dtos.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsPointDTO {
+    private LocalDate periodStart;
+    private Long amount;
+}
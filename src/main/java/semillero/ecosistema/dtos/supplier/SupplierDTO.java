@@ -21,6 +21,9 @@ public class SupplierDTO {
     private CountryDTO country;
     private ProvinceDTO province;
     private String city;
+    private Double latitude;
+    private Double longitude;
+    private Double distance;
     private List<String> images;
     private CategoryDTO category;
     private SupplierStatus status;
@@ -0,0 +1,13 @@
+package semillero.ecosistema.dtos.supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierImportErrorDTO {
+    private Long row;
+    private String error;
+}
@@ -0,0 +1,23 @@
+package semillero.ecosistema.dtos.supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import semillero.ecosistema.enumerations.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierImportJobDTO {
+    private String id;
+    private ImportJobStatus status;
+    private Long processed;
+    private Long imported;
+    private Long failed;
+    private List<SupplierImportErrorDTO> errors;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
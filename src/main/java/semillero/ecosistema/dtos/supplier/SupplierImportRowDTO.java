@@ -0,0 +1,27 @@
+package semillero.ecosistema.dtos.supplier;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Una fila de un archivo de importación de proveedores. El país, la provincia y la categoría se indican por nombre,
+ * y las imágenes por URL.
+ */
+@Data
+public class SupplierImportRowDTO {
+    private String name;
+    private String description;
+    private String shortDescription;
+    private String phone;
+    private String email;
+    private String facebook;
+    private String instagram;
+    private String country;
+    private String province;
+    private String city;
+    private Double latitude;
+    private Double longitude;
+    private String category;
+    private List<String> images;
+}
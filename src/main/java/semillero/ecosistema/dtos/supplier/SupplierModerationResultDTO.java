@@ -0,0 +1,16 @@
+package semillero.ecosistema.dtos.supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import semillero.ecosistema.enumerations.SupplierStatus;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupplierModerationResultDTO {
+    private Long id;
+    private SupplierStatus status;
+    private Boolean updated;
+    private String error;
+}
@@ -1,5 +1,7 @@
 package semillero.ecosistema.dtos.supplier;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -42,6 +44,14 @@ public class SupplierRequestDTO {
     @NotBlank
     private String city;
 
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+
     @NotNull
     private Long categoryId;
 
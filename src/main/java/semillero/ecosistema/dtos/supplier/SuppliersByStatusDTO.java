@@ -10,4 +10,8 @@ public class SuppliersByStatusDTO {
     private List<SupplierNameAndCategoryDTO> approvedSuppliers;
     private List<SupplierNameAndCategoryDTO> reviewSuppliers;
     private List<SupplierNameAndCategoryDTO> deniedSuppliers;
+    private Long newCount;
+    private Long approvedCount;
+    private Long reviewCount;
+    private Long deniedCount;
 }
@@ -0,0 +1,50 @@
+package semillero.ecosistema.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import semillero.ecosistema.enumerations.AssetDeletionStatus;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "asset_deletion",
+        indexes = @Index(name = "idx_asset_deletion_status_next_attempt", columnList = "status, next_attempt_at")
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class AssetDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Public ID cannot be blank")
+    @Column(name = "public_id", nullable = false)
+    private String publicId;
+
+    @NotNull(message = "Status cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private AssetDeletionStatus status;
+
+    @NotNull(message = "Attempts cannot be null")
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @NotNull(message = "Next attempt cannot be null")
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", nullable = true, length = 500)
+    private String lastError;
+
+    @NotNull(message = "Creation date cannot be null")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
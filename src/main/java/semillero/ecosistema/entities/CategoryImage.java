@@ -26,6 +26,12 @@ public class CategoryImage {
     @Column(name = "path", nullable = false)
     private String path;
 
+    @Column(name = "card_path", nullable = true)
+    private String cardPath;
+
+    @Column(name = "thumbnail_path", nullable = true)
+    private String thumbnailPath;
+
     @NotNull(message = "Category cannot be null")
     @OneToOne(optional = false)
     @JoinColumn(name = "category_id")
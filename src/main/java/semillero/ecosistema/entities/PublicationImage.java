@@ -28,11 +28,16 @@ public class PublicationImage {
     @NotBlank(message = "Path cannot be blank")
     @Column(name = "path", nullable = false)
     private String path;
+
+    @Column(name = "card_path", nullable = true)
+    private String cardPath;
+
+    @Column(name = "thumbnail_path", nullable = true)
+    private String thumbnailPath;
     
     @NotNull(message = "Publication cannot be null")
     @ManyToOne(optional = false)
     @JoinColumn(name = "publication_id")
     @JsonBackReference
     private Publication publication;
-
-}
\ No newline at end of file
+}
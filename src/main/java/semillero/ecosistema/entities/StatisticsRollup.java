@@ -0,0 +1,48 @@
+package semillero.ecosistema.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.enumerations.StatisticsPeriod;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(
+        name = "statistics_rollup",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"metric", "dimension", "period", "period_start"})
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class StatisticsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Metric cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 40)
+    private StatisticsMetric metric;
+
+    @NotNull(message = "Dimension cannot be null")
+    @Column(name = "dimension", nullable = false, length = 40)
+    private String dimension;
+
+    @NotNull(message = "Period cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 10)
+    private StatisticsPeriod period;
+
+    @NotNull(message = "Period start cannot be null")
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @NotNull(message = "Amount cannot be null")
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+}
@@ -0,0 +1,46 @@
+package semillero.ecosistema.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "stored_image",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_image_folder_hash", columnNames = {"folder", "hash"})
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class StoredImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Folder cannot be blank")
+    @Column(name = "folder", nullable = false, length = 50)
+    private String folder;
+
+    // SHA-256 del contenido en hexadecimal, que también es el nombre de la imagen en el almacenamiento
+    @NotBlank(message = "Hash cannot be blank")
+    @Column(name = "hash", nullable = false, length = 64)
+    private String hash;
+
+    @NotBlank(message = "Path cannot be blank")
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    @Column(name = "card_path", nullable = true)
+    private String cardPath;
+
+    @Column(name = "thumbnail_path", nullable = true)
+    private String thumbnailPath;
+
+    @NotNull(message = "Reference count cannot be null")
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount;
+}
@@ -7,12 +7,38 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import semillero.ecosistema.enumerations.SupplierStatus;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(
+        name = "Supplier.withRelations",
+        attributeNodes = {
+                @NamedAttributeNode("country"),
+                @NamedAttributeNode("province"),
+                @NamedAttributeNode(value = "category", subgraph = "category"),
+                @NamedAttributeNode("user")
+        },
+        subgraphs = @NamedSubgraph(name = "category", attributeNodes = @NamedAttributeNode("image"))
+)
+@NamedEntityGraph(
+        name = "Supplier.withRelationsAndImages",
+        attributeNodes = {
+                @NamedAttributeNode("images"),
+                @NamedAttributeNode("country"),
+                @NamedAttributeNode("province"),
+                @NamedAttributeNode(value = "category", subgraph = "category"),
+                @NamedAttributeNode("user")
+        },
+        subgraphs = @NamedSubgraph(name = "category", attributeNodes = @NamedAttributeNode("image"))
+)
+@Table(indexes = {
+        @Index(name = "idx_supplier_status_location", columnList = "status, latitude, longitude"),
+        @Index(name = "idx_supplier_status_region", columnList = "status, deleted, country_id, province_id, city")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 public class Supplier {
@@ -63,8 +89,19 @@ public class Supplier {
     @Column(name = "city", nullable = false)
     private String city;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Column(name = "latitude", nullable = true)
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Column(name = "longitude", nullable = true)
+    private Double longitude;
+
     @NotEmpty(message = "Images list cannot be empty")
     @OneToMany(mappedBy = "supplier", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     @JsonManagedReference
     private List<SupplierImage> images;
 
@@ -27,6 +27,12 @@ public class SupplierImage {
     @Column(name = "path", nullable = false)
     private String path;
 
+    @Column(name = "card_path", nullable = true)
+    private String cardPath;
+
+    @Column(name = "thumbnail_path", nullable = true)
+    private String thumbnailPath;
+
     @NotNull(message = "Supplier cannot be null")
     @ManyToOne(optional = false)
     @JoinColumn(name = "supplier_id")
@@ -0,0 +1,6 @@
+package semillero.ecosistema.enumerations;
+
+public enum AssetDeletionStatus {
+    PENDING,
+    DEAD
+}
@@ -0,0 +1,32 @@
+package semillero.ecosistema.enumerations;
+
+import java.util.List;
+
+public enum ImageFormat {
+    JPEG("jpeg", "image/jpeg", List.of("jpg", "jpeg")),
+    PNG("png", "image/png", List.of("png")),
+    GIF("gif", "image/gif", List.of("gif")),
+    BMP("bmp", "image/bmp", List.of("bmp"));
+
+    private final String readerName;
+    private final String contentType;
+    private final List<String> extensions;
+
+    ImageFormat(String readerName, String contentType, List<String> extensions) {
+        this.readerName = readerName;
+        this.contentType = contentType;
+        this.extensions = extensions;
+    }
+
+    public String getReaderName() {
+        return readerName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public List<String> getExtensions() {
+        return extensions;
+    }
+}
@@ -0,0 +1,42 @@
+package semillero.ecosistema.enumerations;
+
+public enum ImageRendition {
+    THUMBNAIL("thumb", 200),
+    CARD("card", 640);
+
+    private final String suffix;
+    private final int maxSide;
+
+    ImageRendition(String suffix, int maxSide) {
+        this.suffix = suffix;
+        this.maxSide = maxSide;
+    }
+
+    /**
+     * Obtiene el nombre con el que se guarda esta versión de una imagen.
+     * @param name El nombre de la imagen original.
+     * @return El nombre de la versión, por ejemplo "{nombre}_thumb".
+     */
+    public String nameFor(String name) {
+        return name + "_" + suffix;
+    }
+
+    /**
+     * Obtiene el nombre de la imagen original a partir del nombre de cualquiera de sus versiones.
+     * @param name El nombre de la imagen o de una de sus versiones.
+     * @return El nombre de la imagen original.
+     */
+    public static String baseName(String name) {
+        for (ImageRendition rendition : values()) {
+            String suffix = "_" + rendition.suffix;
+            if (name.endsWith(suffix)) {
+                return name.substring(0, name.length() - suffix.length());
+            }
+        }
+        return name;
+    }
+
+    public int getMaxSide() {
+        return maxSide;
+    }
+}
@@ -0,0 +1,33 @@
+package semillero.ecosistema.enumerations;
+
+import java.util.List;
+import java.util.Optional;
+
+public enum ImportFormat {
+    CSV(List.of("csv")),                        // Con encabezado; las URLs de imágenes se separan con "|"
+    NDJSON(List.of("ndjson", "jsonl", "json")); // Un objeto JSON por línea
+
+    private final List<String> extensions;
+
+    ImportFormat(List<String> extensions) {
+        this.extensions = extensions;
+    }
+
+    /**
+     * Obtiene el formato indicado por nombre o, si no se indica, por la extensión del archivo.
+     * @param name     El nombre del formato, o null.
+     * @param fileName El nombre del archivo, o null.
+     * @return El formato, o vacío si no se reconoce.
+     */
+    public static Optional<ImportFormat> resolve(String name, String fileName) {
+        for (ImportFormat format : values()) {
+            if (name != null && !name.isBlank()) {
+                if (format.name().equalsIgnoreCase(name.trim())) return Optional.of(format);
+            } else if (fileName != null && format.extensions.stream()
+                    .anyMatch(extension -> fileName.toLowerCase().endsWith("." + extension))) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
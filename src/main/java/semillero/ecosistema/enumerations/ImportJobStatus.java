@@ -0,0 +1,7 @@
+package semillero.ecosistema.enumerations;
+
+public enum ImportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED      // El archivo no pudo leerse; las filas ya importadas se conservan
+}
@@ -0,0 +1,9 @@
+package semillero.ecosistema.enumerations;
+
+public enum ResourceCollection {
+    SUPPLIERS,      // Proveedores aceptados y sus búsquedas
+    PUBLICATIONS,   // Publicaciones activas
+    CATEGORIES,
+    COUNTRIES,
+    PROVINCES
+}
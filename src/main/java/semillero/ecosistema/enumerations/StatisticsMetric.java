@@ -0,0 +1,9 @@
+package semillero.ecosistema.enumerations;
+
+public enum StatisticsMetric {
+    SUPPLIERS_BY_STATUS,    // Proveedores creados en el período, por estado actual
+    SUPPLIERS_BY_CATEGORY,  // Proveedores creados en el período, por ID de categoría
+    NEW_USERS,              // Usuarios registrados en el período
+    PUBLICATION_VIEWS,      // Visualizaciones de publicaciones en el período, por ID de publicación
+    BACKFILL                // Marca que los contadores ya se reconstruyeron desde las tablas base
+}
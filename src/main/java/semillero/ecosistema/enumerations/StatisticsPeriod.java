@@ -0,0 +1,7 @@
+package semillero.ecosistema.enumerations;
+
+public enum StatisticsPeriod {
+    DAY,
+    MONTH,
+    ALL_TIME    // Acumulado histórico, con period_start fijo
+}
@@ -0,0 +1,13 @@
+package semillero.ecosistema.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cada vez que se crea o modifica una categoría.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
@@ -0,0 +1,7 @@
+package semillero.ecosistema.events;
+
+/**
+ * Evento publicado cada vez que se crea, modifica o elimina una publicación.
+ */
+public class PublicationChangedEvent {
+}
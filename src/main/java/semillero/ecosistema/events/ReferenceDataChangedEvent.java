@@ -0,0 +1,7 @@
+package semillero.ecosistema.events;
+
+/**
+ * Evento publicado cada vez que se crea, modifica o elimina un país, una provincia o una categoría.
+ */
+public class ReferenceDataChangedEvent {
+}
@@ -0,0 +1,17 @@
+package semillero.ecosistema.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Evento publicado cada vez que se crean o modifican proveedores.
+ * Los componentes que mantienen datos derivados de proveedores (cachés, estadísticas, índices)
+ * lo escuchan para invalidarse o actualizarse luego del commit de la transacción.
+ */
+@Getter
+@AllArgsConstructor
+public class SupplierChangedEvent {
+    private final List<Long> supplierIds;
+}
@@ -0,0 +1,13 @@
+package semillero.ecosistema.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado cada vez que se modifica o desactiva un usuario.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
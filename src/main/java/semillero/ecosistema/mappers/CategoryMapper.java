@@ -24,6 +24,7 @@ public interface CategoryMapper {
 
     @Named("toResponseDTO")
     @Mapping(target = "image", source = "source.image", qualifiedByName = "mapImagePath")
+    @Mapping(target = "thumbnail", source = "source.image", qualifiedByName = "mapThumbnailPath")
     CategoryResponseDTO toResponseDTO(Category source);
 
     @Named("toResponseDTOsList")
@@ -34,4 +35,9 @@ public interface CategoryMapper {
     static String mapImagePath(CategoryImage image) {
         return image.getPath();
     }
+
+    @Named("mapThumbnailPath")
+    static String mapThumbnailPath(CategoryImage image) {
+        return image.getThumbnailPath() != null ? image.getThumbnailPath() : image.getPath();
+    }
 }
@@ -30,8 +30,13 @@ public interface PublicationMapper {
     @Mapping(target = "images", source = "source.images", qualifiedByName = "mapImagesPaths")
     PublicationDTO toDTO(Publication source);
 
+    // Los listados muestran la versión reducida de cada imagen; el detalle conserva la original
+    @Named("toListDTO")
+    @Mapping(target = "images", source = "source.images", qualifiedByName = "mapCardPaths")
+    PublicationDTO toListDTO(Publication source);
+
     @Named("toDTOsList")
-    @IterableMapping(qualifiedByName = "toDTO")
+    @IterableMapping(qualifiedByName = "toListDTO")
     List<PublicationDTO> toDTOsList(List<Publication> source);
 
     @Named("toStatisticsDTO")
@@ -47,5 +52,13 @@ public interface PublicationMapper {
                 .collect(Collectors.toList());
     }
 
+    // Las imágenes anteriores a las versiones reducidas solo tienen la ruta original
+    @Named("mapCardPaths")
+    static List<String> mapCardPaths(List<PublicationImage> images) {
+        return images.stream()
+                .map(image -> image.getCardPath() != null ? image.getCardPath() : image.getPath())
+                .collect(Collectors.toList());
+    }
+
 
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import org.mapstruct.factory.Mappers;
 import semillero.ecosistema.dtos.supplier.*;
 import semillero.ecosistema.entities.Supplier;
 import semillero.ecosistema.entities.SupplierImage;
+import semillero.ecosistema.repositories.projections.SupplierNameProjection;
+import semillero.ecosistema.repositories.projections.SupplierSummaryProjection;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,8 +28,13 @@ public interface SupplierMapper {
     @Mapping(target = "images", source = "source.images", qualifiedByName = "mapImagesPaths")
     SupplierDTO toDTO(Supplier source);
 
+    // Los listados muestran la versión reducida de cada imagen; el detalle conserva la original
+    @Named("toListDTO")
+    @Mapping(target = "images", source = "source.images", qualifiedByName = "mapCardPaths")
+    SupplierDTO toListDTO(Supplier source);
+
     @Named("toDTOsList")
-    @IterableMapping(qualifiedByName = "toDTO")
+    @IterableMapping(qualifiedByName = "toListDTO")
     List<SupplierDTO> toDTOsList(List<Supplier> source);
 
     @Named("toFeedbackDTO")
@@ -52,10 +59,24 @@ public interface SupplierMapper {
     @IterableMapping(qualifiedByName = "toNameAndCategoryDTO")
     List<SupplierNameAndCategoryDTO> toNameAndCategoryDTOsList(List<Supplier> source);
 
+    @Named("projectionToNameDTO")
+    SupplierNameDTO toNameDTO(SupplierNameProjection source);
+
+    @Named("summaryToNameAndCategoryDTO")
+    SupplierNameAndCategoryDTO toNameAndCategoryDTO(SupplierSummaryProjection source);
+
     @Named("mapImagesPaths")
     static List<String> mapImagesPaths(List<SupplierImage> images) {
         return images.stream()
                 .map(SupplierImage::getPath)
                 .collect(Collectors.toList());
     }
+
+    // Las imágenes anteriores a las versiones reducidas solo tienen la ruta original
+    @Named("mapCardPaths")
+    static List<String> mapCardPaths(List<SupplierImage> images) {
+        return images.stream()
+                .map(image -> image.getCardPath() != null ? image.getCardPath() : image.getPath())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,17 @@
+package semillero.ecosistema.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import semillero.ecosistema.entities.AssetDeletion;
+import semillero.ecosistema.enumerations.AssetDeletionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AssetDeletionRepository extends JpaRepository<AssetDeletion, Long> {
+
+    List<AssetDeletion> findAllByStatusAndNextAttemptAtLessThanEqualOrderById(
+            AssetDeletionStatus status, LocalDateTime now, Pageable pageable);
+}
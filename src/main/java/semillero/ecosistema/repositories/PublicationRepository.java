@@ -3,6 +3,7 @@ package semillero.ecosistema.repositories;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import semillero.ecosistema.entities.Publication;
+import semillero.ecosistema.repositories.projections.PublicationStatisticsProjection;
 
 import java.util.List;
 
@@ -10,4 +11,6 @@ import java.util.List;
 public interface PublicationRepository extends JpaRepository<Publication, Long> {
 
     List<Publication> findAllByDeletedFalse();
+
+    List<PublicationStatisticsProjection> findAllProjectedBy();
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package semillero.ecosistema.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import semillero.ecosistema.entities.StatisticsRollup;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.enumerations.StatisticsPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface StatisticsRollupRepository extends JpaRepository<StatisticsRollup, Long> {
+
+    List<StatisticsRollup> findAllByMetricAndPeriodAndPeriodStart(
+            StatisticsMetric metric, StatisticsPeriod period, LocalDate periodStart);
+
+    List<StatisticsRollup> findAllByMetricAndDimensionAndPeriodAndPeriodStartBetweenOrderByPeriodStart(
+            StatisticsMetric metric, String dimension, StatisticsPeriod period, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,17 @@
+package semillero.ecosistema.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import semillero.ecosistema.entities.StoredImage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    Optional<StoredImage> findByFolderAndHash(String folder, String hash);
+
+    List<StoredImage> findAllByHashIn(Collection<String> hashes);
+}
@@ -1,6 +1,11 @@
 package semillero.ecosistema.repositories;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -8,40 +13,137 @@ import semillero.ecosistema.entities.Category;
 import semillero.ecosistema.entities.Supplier;
 import semillero.ecosistema.entities.User;
 import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.repositories.projections.SupplierDistanceProjection;
+import semillero.ecosistema.repositories.projections.SupplierModerationProjection;
+import semillero.ecosistema.repositories.projections.SupplierNameProjection;
+import semillero.ecosistema.repositories.projections.SupplierSummaryProjection;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
 
     Long countByUser(User user);
 
-    @Query("SELECT COUNT(s) FROM Supplier s WHERE s.status = :status " +
-            "AND MONTH(s.createdAt) = MONTH(CURRENT_DATE) " +
-            "AND YEAR(s.createdAt) = YEAR(CURRENT_DATE)"
-    )
-    Integer countSuppliersByStatusInCurrentMonth(@Param("status") SupplierStatus status);
+    @EntityGraph("Supplier.withRelationsAndImages")
+    List<Supplier> findAllByUser(User user);
 
-    @Query("SELECT COUNT(s) FROM Supplier s " +
-            "WHERE s.category = :category " +
-            "AND MONTH(s.createdAt) = MONTH(CURRENT_DATE) " +
-            "AND YEAR(s.createdAt) = YEAR(CURRENT_DATE)"
+    @Query(value = "SELECT t.id, t.name, t.category, t.status, t.total FROM (" +
+            "SELECT s.id AS id, s.name AS name, c.name AS category, s.status AS status, " +
+            "ROW_NUMBER() OVER (PARTITION BY s.status ORDER BY s.id) AS rn, " +
+            "COUNT(*) OVER (PARTITION BY s.status) AS total " +
+            "FROM supplier s JOIN category c ON c.id = s.category_id) t " +
+            "WHERE t.rn <= :limit ORDER BY t.id",
+            nativeQuery = true
     )
-    Integer countSuppliersByCategoryInCurrentMonth(@Param("category") Category category);
+    List<SupplierSummaryProjection> findAllSummariesLimitedByStatus(@Param("limit") Integer limit);
 
-    List<Supplier> findAllByUser(User user);
+    @EntityGraph("Supplier.withRelationsAndImages")
+    List<Supplier> findAllByStatusAndDeletedFalse(SupplierStatus status);
 
-    List<Supplier> findAllByStatus(SupplierStatus status);
+    String BEST_LOCATION_MATCH =
+            "SELECT s FROM Supplier s " +
+            "WHERE s.status = :status AND s.deleted = false AND s.country.name = :country " +
+            "AND (CASE WHEN s.province.name = :province AND s.city = :city THEN 0 " +
+            "WHEN s.province.name = :province THEN 1 ELSE 2 END) = (" +
+            "SELECT MIN(CASE WHEN s2.province.name = :province AND s2.city = :city THEN 0 " +
+            "WHEN s2.province.name = :province THEN 1 ELSE 2 END) FROM Supplier s2 " +
+            "WHERE s2.status = :status AND s2.deleted = false AND s2.country.name = :country)";
 
-    List<Supplier> findAllByStatusAndDeletedFalse(SupplierStatus status);
+    /**
+     * Obtiene los proveedores del país indicado que mejor coinciden con la ubicación: los de la misma
+     * ciudad (rango 0); si no hay, los de la misma provincia (rango 1); si tampoco hay, los del país (rango 2).
+     */
+    @EntityGraph("Supplier.withRelationsAndImages")
+    @Query(BEST_LOCATION_MATCH + " ORDER BY s.id")
+    List<Supplier> findAllBestLocationMatches(@Param("status") SupplierStatus status,
+                                              @Param("country") String country,
+                                              @Param("province") String province,
+                                              @Param("city") String city);
+
+    @EntityGraph("Supplier.withRelations")
+    Slice<Supplier> findAllByStatusAndDeletedFalse(SupplierStatus status, Pageable pageable);
+
+    @EntityGraph("Supplier.withRelations")
+    Slice<Supplier> findAllByStatusAndDeletedFalseAndIdGreaterThan(SupplierStatus status, Long id, Pageable pageable);
+
+    @EntityGraph("Supplier.withRelations")
+    Slice<Supplier> findAllByCategoryAndStatusAndDeletedFalse(Category category, SupplierStatus status, Pageable pageable);
+
+    @EntityGraph("Supplier.withRelations")
+    Slice<Supplier> findAllByCategoryAndStatusAndDeletedFalseAndIdGreaterThan(Category category, SupplierStatus status, Long id, Pageable pageable);
+
+    @EntityGraph("Supplier.withRelationsAndImages")
+    List<Supplier> findAllByIdIn(Collection<Long> ids);
+
+    @EntityGraph("Supplier.withRelationsAndImages")
+    List<Supplier> findAllByIdInAndStatusAndDeletedFalse(Collection<Long> ids, SupplierStatus status);
+
+    /**
+     * Obtiene los IDs de los proveedores no eliminados con el estado indicado que están a menos de
+     * cierta distancia de un punto, ordenados del más cercano al más lejano. El rectángulo
+     * (minLat, maxLat, minLng, maxLng) debe contener el círculo de búsqueda y permite usar el índice
+     * sobre (status, latitude, longitude) antes de calcular la distancia.
+     */
+    @Query(value = "SELECT t.id AS id, t.distance AS distance FROM (" +
+            "SELECT s.id, 6371 * ACOS(LEAST(1, " +
+            "COS(RADIANS(:lat)) * COS(RADIANS(s.latitude)) * COS(RADIANS(s.longitude) - RADIANS(:lng)) + " +
+            "SIN(RADIANS(:lat)) * SIN(RADIANS(s.latitude)))) AS distance " +
+            "FROM supplier s " +
+            "WHERE s.status = :status AND s.deleted = 'N' " +
+            "AND s.latitude BETWEEN :minLat AND :maxLat " +
+            "AND s.longitude BETWEEN :minLng AND :maxLng" +
+            ") t WHERE t.distance <= :radius " +
+            "ORDER BY t.distance, t.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<SupplierDistanceProjection> findNearby(@Param("status") String status,
+                                                @Param("lat") Double latitude,
+                                                @Param("lng") Double longitude,
+                                                @Param("minLat") Double minLatitude,
+                                                @Param("maxLat") Double maxLatitude,
+                                                @Param("minLng") Double minLongitude,
+                                                @Param("maxLng") Double maxLongitude,
+                                                @Param("radius") Double radiusKm,
+                                                @Param("limit") Integer limit,
+                                                @Param("offset") Integer offset);
+
+    @Query("SELECT s.id AS id, s.name AS name FROM Supplier s WHERE s.status = :status AND s.deleted = false")
+    List<SupplierNameProjection> findAllNamesByStatusAndDeletedFalse(@Param("status") SupplierStatus status);
 
-    List<Supplier> findAllByCategoryAndStatusAndDeletedFalse(Category category, SupplierStatus status);
+    @Query("SELECT s.id FROM Supplier s WHERE s.category.id = :categoryId")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
 
-    List<Supplier> findAllByNameContainingIgnoreCaseAndStatusAndDeletedFalse(String name, SupplierStatus status);
+    /**
+     * Obtiene el estado actual de los proveedores y bloquea sus filas hasta el fin de la transacción, para que
+     * dos moderaciones simultáneas no partan del mismo estado anterior. Se bloquean en orden de ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.id AS id, s.status AS status, s.createdAt AS createdAt FROM Supplier s WHERE s.id IN :ids ORDER BY s.id")
+    List<SupplierModerationProjection> findAllModerationStatesByIdIn(@Param("ids") Collection<Long> ids);
 
-    List<Supplier> findAllByStatusAndDeletedFalseAndCountryName(SupplierStatus status, String country);
+    /**
+     * Obtiene un proveedor y bloquea su fila hasta el fin de la transacción.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Supplier s WHERE s.id = :id")
+    Optional<Supplier> findByIdForUpdate(@Param("id") Long id);
 
-    List<Supplier> findAllByStatusAndDeletedFalseAndCountryNameAndProvinceName(SupplierStatus status, String country, String province);
+    @EntityGraph("Supplier.withRelations")
+    @Query(BEST_LOCATION_MATCH)
+    Slice<Supplier> findAllBestLocationMatches(@Param("status") SupplierStatus status,
+                                               @Param("country") String country,
+                                               @Param("province") String province,
+                                               @Param("city") String city,
+                                               Pageable pageable);
 
-    List<Supplier> findAllByStatusAndDeletedFalseAndCountryNameAndProvinceNameAndCity(SupplierStatus status, String country, String province, String city);
+    @EntityGraph("Supplier.withRelations")
+    @Query(BEST_LOCATION_MATCH + " AND s.id > :id")
+    Slice<Supplier> findAllBestLocationMatchesAndIdGreaterThan(@Param("status") SupplierStatus status,
+                                                               @Param("country") String country,
+                                                               @Param("province") String province,
+                                                               @Param("city") String city,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
 }
@@ -1,7 +1,6 @@
 package semillero.ecosistema.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import semillero.ecosistema.entities.User;
 
@@ -10,10 +9,4 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-
-    @Query("SELECT COUNT(u) FROM User u WHERE " +
-            "MONTH(u.createdAt) = MONTH(CURRENT_DATE) " +
-            "AND YEAR(u.createdAt) = YEAR(CURRENT_DATE)"
-    )
-    Integer countUsersCreatedThisMonth();
 }
@@ -0,0 +1,13 @@
+package semillero.ecosistema.repositories.projections;
+
+import java.time.LocalDate;
+
+public interface PublicationStatisticsProjection {
+    Long getId();
+
+    String getTitle();
+
+    Integer getVisualizationsAmount();
+
+    LocalDate getDateOfCreation();
+}
@@ -0,0 +1,7 @@
+package semillero.ecosistema.repositories.projections;
+
+public interface SupplierDistanceProjection {
+    Long getId();
+
+    Double getDistance();
+}
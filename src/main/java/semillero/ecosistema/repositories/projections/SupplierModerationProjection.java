@@ -0,0 +1,13 @@
+package semillero.ecosistema.repositories.projections;
+
+import semillero.ecosistema.enumerations.SupplierStatus;
+
+import java.time.LocalDate;
+
+public interface SupplierModerationProjection {
+    Long getId();
+
+    SupplierStatus getStatus();
+
+    LocalDate getCreatedAt();
+}
@@ -0,0 +1,7 @@
+package semillero.ecosistema.repositories.projections;
+
+public interface SupplierNameProjection {
+    Long getId();
+
+    String getName();
+}
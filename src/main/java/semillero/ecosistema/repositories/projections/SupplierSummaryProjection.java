@@ -0,0 +1,13 @@
+package semillero.ecosistema.repositories.projections;
+
+public interface SupplierSummaryProjection {
+    Long getId();
+
+    String getName();
+
+    String getCategory();
+
+    String getStatus();
+
+    Long getTotal();
+}
@@ -0,0 +1,174 @@
+package semillero.ecosistema.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import semillero.ecosistema.entities.AssetDeletion;
+import semillero.ecosistema.enumerations.AssetDeletionStatus;
+import semillero.ecosistema.enumerations.ImageRendition;
+import semillero.ecosistema.repositories.AssetDeletionRepository;
+import semillero.ecosistema.repositories.StoredImageRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cola persistente de imágenes a eliminar del almacenamiento. Las eliminaciones se registran en la misma
+ * transacción que quita la referencia a la imagen y un proceso en segundo plano las ejecuta por lotes,
+ * reintentando con espera exponencial. Las que agotan los reintentos quedan en estado DEAD.
+ */
+@Slf4j
+@Service
+public class AssetDeletionService {
+
+    // Límite de la API de Cloudinary para delete_resources
+    private static final int BATCH_SIZE = 100;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private AssetDeletionRepository assetDeletionRepository;
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Value("${asset.deletion.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${asset.deletion.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${asset.deletion.max-backoff-seconds:21600}")
+    private long maxBackoffSeconds;
+
+    @Value("${asset.deletion.grace-seconds:300}")
+    private long graceSeconds;
+
+    /**
+     * Programa la eliminación de imágenes y de sus versiones reducidas. Si hay una transacción en curso,
+     * el registro solo se confirma junto con ella. La eliminación se demora unos minutos para que una
+     * subida en curso que reutilice la misma imagen alcance a registrar su referencia.
+     *
+     * @param names  Los nombres de las imágenes a eliminar.
+     * @param folder La carpeta en la que se encuentran las imágenes.
+     */
+    public void enqueue(List<String> names, String folder) {
+        if (names.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notBefore = now.plusSeconds(graceSeconds);
+        List<AssetDeletion> deletions = new ArrayList<>();
+
+        for (String name : names) {
+            // Cada imagen se guarda junto con sus versiones reducidas
+            deletions.add(deletion(folder + "/" + name, notBefore, now));
+            for (ImageRendition rendition : ImageRendition.values()) {
+                deletions.add(deletion(folder + "/" + rendition.nameFor(name), notBefore, now));
+            }
+        }
+
+        assetDeletionRepository.saveAll(deletions);
+    }
+
+    /**
+     * Procesa las eliminaciones pendientes cuyo próximo intento ya venció, en lotes de hasta BATCH_SIZE.
+     */
+    @Scheduled(fixedDelayString = "${asset.deletion.interval-ms:10000}")
+    public synchronized void processPending() {
+        List<AssetDeletion> batch;
+
+        do {
+            batch = assetDeletionRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderById(
+                    AssetDeletionStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+
+            if (!batch.isEmpty()) {
+                process(batch);
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    private AssetDeletion deletion(String publicId, LocalDateTime notBefore, LocalDateTime now) {
+        return new AssetDeletion(null, publicId, AssetDeletionStatus.PENDING, 0, notBefore, null, now);
+    }
+
+    private void process(List<AssetDeletion> batch) {
+        // Una imagen liberada puede haberse vuelto a referenciar por contenido antes de eliminarse
+        Set<String> referenced = referencedPublicIds(batch);
+        List<AssetDeletion> skipped = batch.stream()
+                .filter(deletion -> referenced.contains(basePublicId(deletion.getPublicId())))
+                .collect(Collectors.toList());
+
+        if (!skipped.isEmpty()) {
+            assetDeletionRepository.deleteAll(skipped);
+            batch = batch.stream().filter(deletion -> !skipped.contains(deletion)).collect(Collectors.toList());
+            if (batch.isEmpty()) return;
+        }
+
+        List<String> publicIds = batch.stream().map(AssetDeletion::getPublicId).collect(Collectors.toList());
+
+        try {
+            Set<String> deleted = imageStorage.deleteImages(publicIds);
+            List<AssetDeletion> done = new ArrayList<>();
+            List<AssetDeletion> failed = new ArrayList<>();
+
+            for (AssetDeletion deletion : batch) {
+                (deleted.contains(deletion.getPublicId()) ? done : failed).add(deletion);
+            }
+
+            assetDeletionRepository.deleteAll(done);
+            retry(failed, "Not deleted by storage");
+        } catch (Exception e) {
+            log.warn("Error deleting {} images from storage: {}", batch.size(), e.getMessage());
+            retry(batch, e.getMessage());
+        }
+    }
+
+    private Set<String> referencedPublicIds(List<AssetDeletion> batch) {
+        Set<String> hashes = batch.stream()
+                .map(deletion -> basePublicId(deletion.getPublicId()))
+                .map(publicId -> publicId.substring(publicId.lastIndexOf('/') + 1))
+                .collect(Collectors.toSet());
+
+        return storedImageRepository.findAllByHashIn(hashes).stream()
+                .filter(image -> image.getReferenceCount() > 0)
+                .map(image -> image.getFolder() + "/" + image.getHash())
+                .collect(Collectors.toSet());
+    }
+
+    private String basePublicId(String publicId) {
+        int slash = publicId.lastIndexOf('/');
+        return publicId.substring(0, slash + 1) + ImageRendition.baseName(publicId.substring(slash + 1));
+    }
+
+    private void retry(List<AssetDeletion> deletions, String error) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (AssetDeletion deletion : deletions) {
+            int attempts = deletion.getAttempts() + 1;
+            long backoff = Math.min(maxBackoffSeconds, initialBackoffSeconds << Math.min(attempts - 1, 30));
+
+            deletion.setAttempts(attempts);
+            deletion.setNextAttemptAt(now.plusSeconds(backoff));
+            deletion.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH
+                    ? error
+                    : error.substring(0, MAX_ERROR_LENGTH));
+
+            if (attempts >= maxAttempts) {
+                deletion.setStatus(AssetDeletionStatus.DEAD);
+                log.error("Giving up deleting image {} after {} attempts", deletion.getPublicId(), attempts);
+            }
+        }
+
+        assetDeletionRepository.saveAll(deletions);
+    }
+}
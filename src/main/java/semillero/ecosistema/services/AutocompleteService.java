@@ -0,0 +1,185 @@
+package semillero.ecosistema.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import semillero.ecosistema.dtos.search.SuggestionDTO;
+import semillero.ecosistema.entities.Category;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.CategoryChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.CategoryRepository;
+import semillero.ecosistema.repositories.SupplierRepository;
+import semillero.ecosistema.repositories.projections.SupplierNameProjection;
+import semillero.ecosistema.utils.TextNormalizer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    public static final String SUPPLIER = "SUPPLIER";
+
+    public static final String CATEGORY = "CATEGORY";
+
+    private static final char SEPARATOR = '\u0000';
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    // Se reemplaza completo al reconstruirlo, para que las consultas nunca vean un índice a medio cargar
+    private volatile Index index = new Index();
+
+    /**
+     * Obtiene sugerencias de proveedores aceptados y categorías cuyo nombre, o alguna de sus palabras,
+     * comienza con el texto indicado.
+     *
+     * @param prefix El texto ingresado por el usuario.
+     * @param limit  La cantidad máxima de sugerencias.
+     * @return Lista de sugerencias: primero las que coinciden al inicio del nombre y luego las que coinciden
+     * en otra palabra, cada grupo en orden alfabético.
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        Map<String, SuggestionDTO> suggestions = new LinkedHashMap<>();
+
+        if (normalized.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Index current = index;
+        collect(current.nameIndex, normalized, limit, suggestions);
+        collect(current.wordIndex, normalized, limit, suggestions);
+
+        return new ArrayList<>(suggestions.values());
+    }
+
+    /**
+     * Carga el índice con todos los proveedores aceptados y todas las categorías.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            Index rebuilt = new Index();
+
+            for (SupplierNameProjection supplier :
+                    supplierRepository.findAllNamesByStatusAndDeletedFalse(SupplierStatus.ACEPTADO)) {
+                rebuilt.put(SUPPLIER, supplier.getId(), supplier.getName());
+            }
+            for (Category category : categoryRepository.findAll()) {
+                rebuilt.put(CATEGORY, category.getId(), category.getName());
+            }
+
+            index = rebuilt;
+        } catch (Exception e) {
+            log.warn("Error building autocomplete index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza las entradas de los proveedores modificados una vez confirmada la transacción.
+     *
+     * @param event El evento con los IDs de los proveedores modificados.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSupplierChanged(SupplierChangedEvent event) {
+        try {
+            event.getSupplierIds().forEach(id -> index.remove(SUPPLIER, id));
+            for (Supplier supplier : supplierRepository.findAllById(event.getSupplierIds())) {
+                if (supplier.getStatus() == SupplierStatus.ACEPTADO && !supplier.getDeleted()) {
+                    index.put(SUPPLIER, supplier.getId(), supplier.getName());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error updating autocomplete index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza la entrada de la categoría modificada una vez confirmada la transacción.
+     *
+     * @param event El evento con el ID de la categoría modificada.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        try {
+            index.remove(CATEGORY, event.getCategoryId());
+            categoryRepository.findById(event.getCategoryId())
+                    .ifPresent(category -> index.put(CATEGORY, category.getId(), category.getName()));
+        } catch (Exception e) {
+            log.warn("Error updating autocomplete index: {}", e.getMessage());
+        }
+    }
+
+    private void collect(ConcurrentNavigableMap<String, SuggestionDTO> index, String prefix, int limit,
+                         Map<String, SuggestionDTO> suggestions) {
+        for (Map.Entry<String, SuggestionDTO> entry : index.tailMap(prefix).entrySet()) {
+            if (suggestions.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                return;
+            }
+            SuggestionDTO suggestion = entry.getValue();
+            suggestions.putIfAbsent(owner(suggestion.getType(), suggestion.getId()), suggestion);
+        }
+    }
+
+    private static String owner(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static class Index {
+
+        // Claves ordenadas por nombre completo normalizado: "panaderia organica\0SUPPLIER:7"
+        private final ConcurrentNavigableMap<String, SuggestionDTO> nameIndex = new ConcurrentSkipListMap<>();
+
+        // Claves ordenadas a partir de cada palabra posterior a la primera: "organica\0SUPPLIER:7"
+        private final ConcurrentNavigableMap<String, SuggestionDTO> wordIndex = new ConcurrentSkipListMap<>();
+
+        private final Map<String, List<String>> keysByOwner = new ConcurrentHashMap<>();
+
+        private void put(String type, Long id, String name) {
+            String owner = owner(type, id);
+            String normalized = TextNormalizer.normalize(name);
+            SuggestionDTO suggestion = new SuggestionDTO(type, id, name);
+            List<String> keys = new ArrayList<>();
+
+            String nameKey = normalized + SEPARATOR + owner;
+            nameIndex.put(nameKey, suggestion);
+            keys.add(nameKey);
+
+            int space = normalized.indexOf(' ');
+            while (space != -1) {
+                String wordKey = normalized.substring(space + 1) + SEPARATOR + owner;
+                wordIndex.put(wordKey, suggestion);
+                keys.add(wordKey);
+                space = normalized.indexOf(' ', space + 1);
+            }
+
+            keysByOwner.put(owner, keys);
+        }
+
+        private void remove(String type, Long id) {
+            List<String> keys = keysByOwner.remove(owner(type, id));
+            if (keys != null) {
+                keys.forEach(key -> {
+                    nameIndex.remove(key);
+                    wordIndex.remove(key);
+                });
+            }
+        }
+    }
+}
@@ -1,21 +1,26 @@
 package semillero.ecosistema.services;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import semillero.ecosistema.dtos.category.CategoryDTO;
 import semillero.ecosistema.dtos.category.CategoryResponseDTO;
 import semillero.ecosistema.entities.Category;
 import semillero.ecosistema.entities.CategoryImage;
+import semillero.ecosistema.events.CategoryChangedEvent;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
 import semillero.ecosistema.mappers.CategoryMapper;
 import semillero.ecosistema.repositories.CategoryImageRepository;
 import semillero.ecosistema.repositories.CategoryRepository;
+import semillero.ecosistema.repositories.SupplierRepository;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class CategoryService {
@@ -27,7 +32,22 @@ public class CategoryService {
     private CategoryImageRepository categoryImageRepository;
 
     @Autowired
-    private CloudinaryService cloudinaryService;
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private ImageReferenceService imageReferenceService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
 
     private final CategoryMapper categoryMapper = CategoryMapper.getInstance();
 
@@ -41,8 +61,7 @@ public class CategoryService {
      */
     public List<CategoryResponseDTO> findAll() throws Exception {
         try {
-            List<Category> categories = categoryRepository.findAll();
-            return categoryMapper.toResponseDTOsList(categories);
+            return referenceDataCache.getCategories();
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
@@ -58,7 +77,7 @@ public class CategoryService {
      */
     public CategoryResponseDTO findById(Long id) throws Exception {
         try {
-            Category category = categoryRepository.findById(id)
+            Category category = referenceDataCache.getCategory(id)
                     .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + id));
             return categoryMapper.toResponseDTO(category);
         } catch (EntityNotFoundException e) {
@@ -77,15 +96,27 @@ public class CategoryService {
      * @throws IOException Si ocurre un error de lectura o escritura de la imagen.
      * @throws Exception   Si ocurre algún otro error durante el proceso de guardado.
      */
-    @Transactional
     public CategoryResponseDTO save(CategoryDTO dto, MultipartFile image) throws Exception {
         try {
-            Category category = categoryMapper.toEntity(dto);
-
-            CategoryImage categoryImage = uploadCategoryImage(image, category);
-            category.setImage(categoryImage);
-
-            return categoryMapper.toResponseDTO(categoryRepository.save(category));
+            // Subir la imagen a Cloudinary antes de abrir la transacción
+            UploadedImage uploaded = imageUploadService.uploadAll(List.of(image), CLOUDINARY_FOLDER).get(0);
+
+            try {
+                return transactionTemplate.execute(status -> {
+                    Category category = categoryMapper.toEntity(dto);
+                    category.setImage(toCategoryImage(uploaded, category));
+                    imageReferenceService.acquire(List.of(uploaded), CLOUDINARY_FOLDER);
+
+                    Category saved = categoryRepository.save(category);
+                    eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+                    eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+
+                    return categoryMapper.toResponseDTO(saved);
+                });
+            } catch (RuntimeException e) {
+                imageUploadService.discard(List.of(uploaded), CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (IOException e) {
             throw new IOException(e.getMessage());
         } catch (Exception e) {
@@ -104,22 +135,42 @@ public class CategoryService {
      * @throws IOException             Si ocurre un error de lectura o escritura de la nueva imagen.
      * @throws Exception               Si ocurre algún otro error durante el proceso de actualización.
      */
-    @Transactional
     public CategoryResponseDTO update(Long id, CategoryDTO dto, MultipartFile image) throws Exception {
         try {
-            Category category = categoryRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + id));
-
-            category.setName(dto.getName());
-
-            // Eliminar imágen anterior y cargar nueva en Cloudinary. Actualizar relacion con CategoryImage
-            cloudinaryService.deleteImage(category.getName(), CLOUDINARY_FOLDER);
-            categoryImageRepository.delete(category.getImage());
-
-            CategoryImage categoryImage = uploadCategoryImage(image, category);
-            category.setImage(categoryImage);
-
-            return categoryMapper.toResponseDTO(categoryRepository.save(category));
+            if (!categoryRepository.existsById(id)) {
+                throw new EntityNotFoundException("Category not found with id: " + id);
+            }
+
+            // Subir la imagen nueva a Cloudinary antes de abrir la transacción
+            UploadedImage uploaded = imageUploadService.uploadAll(List.of(image), CLOUDINARY_FOLDER).get(0);
+            try {
+                return transactionTemplate.execute(status -> {
+                    Category category = categoryRepository.findById(id)
+                            .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + id));
+
+                    category.setName(dto.getName());
+
+                    // Reemplazar la imagen anterior. La referencia nueva se suma antes de liberar la anterior
+                    imageReferenceService.acquire(List.of(uploaded), CLOUDINARY_FOLDER);
+                    if (category.getImage() != null) {
+                        imageReferenceService.release(List.of(category.getImage().getName()), CLOUDINARY_FOLDER);
+                        categoryImageRepository.delete(category.getImage());
+                    }
+                    category.setImage(toCategoryImage(uploaded, category));
+
+                    Category saved = categoryRepository.save(category);
+                    eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+                    eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+
+                    // Los proveedores de la categoría exponen su nombre, por lo que se notifica el cambio
+                    eventPublisher.publishEvent(new SupplierChangedEvent(supplierRepository.findIdsByCategoryId(id)));
+
+                    return categoryMapper.toResponseDTO(saved);
+                });
+            } catch (RuntimeException e) {
+                imageUploadService.discard(List.of(uploaded), CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(e.getMessage());
         } catch (IOException e) {
@@ -130,20 +181,18 @@ public class CategoryService {
     }
 
     /**
-     * Sube una imagen asociada a una categoría a Cloudinary.
+     * Crea la entidad CategoryImage asociada a una imagen ya subida a Cloudinary.
      *
-     * @param image    La imagen a ser subida.
+     * @param uploaded La imagen subida.
      * @param category La categoría a la cual la imagen está asociada.
      * @return Una entidad CategoryImage que representa la imagen subida.
-     * @throws IOException Si ocurre un error de lectura o escritura de la imagen.
      */
-    private CategoryImage uploadCategoryImage(MultipartFile image, Category category) throws IOException {
-        String name = UUID.randomUUID().toString();
-        String path = cloudinaryService.uploadImage(image, name, CLOUDINARY_FOLDER);
-
+    private CategoryImage toCategoryImage(UploadedImage uploaded, Category category) {
         CategoryImage categoryImage = new CategoryImage();
-        categoryImage.setName(name);
-        categoryImage.setPath(path);
+        categoryImage.setName(uploaded.name());
+        categoryImage.setPath(uploaded.path());
+        categoryImage.setCardPath(uploaded.cardPath());
+        categoryImage.setThumbnailPath(uploaded.thumbnailPath());
         categoryImage.setCategory(category);
 
         return categoryImage;
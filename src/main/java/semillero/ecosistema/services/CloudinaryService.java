@@ -1,37 +1,41 @@
 package semillero.ecosistema.services;
 
 import com.cloudinary.Cloudinary;
+import com.cloudinary.api.ApiResponse;
 import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import semillero.ecosistema.utils.ImageUtil;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
-public class CloudinaryService {
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryService implements ImageStorage {
 
     @Autowired
     private Cloudinary cloudinary;
 
-    @Autowired
-    private ImageUtil imageUtil;
-
     /**
      * Sube una imagen a Cloudinary con el nombre y la carpeta especificados.
      * @param image El archivo de imagen a ser cargado.
      * @param name El nombre que se asignará a la imagen en Cloudinary.
      * @param folder La carpeta en la que se almacenará la imagen en Cloudinary.
      * @return La URL de la imagen cargada en Cloudinary.
-     * @throws IOException Si la imagen es inválida o su tamaño excede el límite permitido.
+     * @throws IOException Si la imagen no pudo leerse o cargarse.
      */
+    @Override
     public String uploadImage(MultipartFile image, String name, String folder) throws IOException {
-        if (!imageUtil.isValidImage(image)) {
-            throw new IOException("Invalid image or image size exceeds the allowed limit.");
-        }
+        return uploadBytes(image.getBytes(), name, folder);
+    }
 
+    @Override
+    public String uploadBytes(byte[] content, String name, String folder) throws IOException {
         String publicId = folder + "/" + name;
 
         Map params = ObjectUtils.asMap(
@@ -40,19 +44,29 @@ public class CloudinaryService {
                 "resource_type", "image"
         );
 
-        return cloudinary.uploader().upload(image.getBytes(), params).get("url").toString();
+        return cloudinary.uploader().upload(content, params).get("url").toString();
     }
 
     /**
-     * Elimina una imagen de Cloudinary según el nombre y la carpeta especificados.
-     * @param name El nombre de la imagen a ser eliminada.
-     * @param folder La carpeta en la que se encuentra la imagen en Cloudinary.
-     * @return Un mapa con información sobre la eliminación de la imagen.
-     * @throws IOException Si ocurre un error durante la eliminación de la imagen.
+     * Elimina varias imágenes de Cloudinary en una sola llamada (hasta 100 por llamada).
+     * @param publicIds Los identificadores públicos (carpeta/nombre) de las imágenes a eliminar.
+     * @return Los identificadores que ya no existen en Cloudinary, ya sea porque se eliminaron o porque no se encontraron.
+     * @throws Exception Si ocurre un error durante la eliminación de las imágenes.
      */
-    public Map deleteImage(String name, String folder) throws IOException {
-        String publicId = folder + "/" + name;
+    @Override
+    public Set<String> deleteImages(List<String> publicIds) throws Exception {
+        ApiResponse response = cloudinary.api().deleteResources(publicIds, ObjectUtils.asMap("resource_type", "image"));
+        Map<?, ?> deleted = (Map<?, ?>) response.get("deleted");
+        Set<String> gone = new HashSet<>();
+
+        if (deleted != null) {
+            deleted.forEach((publicId, result) -> {
+                if ("deleted".equals(result) || "not_found".equals(result)) {
+                    gone.add(publicId.toString());
+                }
+            });
+        }
 
-        return cloudinary.uploader().destroy(publicId, ObjectUtils.asMap("resource_type", "image"));
+        return gone;
     }
 }
@@ -0,0 +1,103 @@
+package semillero.ecosistema.services;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import semillero.ecosistema.enumerations.ResourceCollection;
+import semillero.ecosistema.events.PublicationChangedEvent;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lleva una versión por cada colección de recursos públicos, que aumenta una vez confirmada cada escritura.
+ * Con ella se calculan el ETag y la fecha de última modificación de las respuestas, para poder responder
+ * las solicitudes condicionales sin consultar la base de datos.
+ * <p>
+ * Las versiones aumentan después de que los índices y cachés derivados procesan el mismo evento (esos listeners
+ * tienen mayor precedencia), para que una solicitud que ya ve la versión nueva nunca reciba datos anteriores.
+ * <p>
+ * Las versiones se guardan en memoria: el ETag incluye un identificador del arranque para que no coincida
+ * con los emitidos por otra instancia o antes de un reinicio.
+ */
+@Service
+public class CollectionVersionService {
+
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private final Map<ResourceCollection, AtomicReference<Version>> versions = new EnumMap<>(ResourceCollection.class);
+
+    public CollectionVersionService() {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        for (ResourceCollection collection : ResourceCollection.values()) {
+            versions.put(collection, new AtomicReference<>(toVersion(collection, 0, now)));
+        }
+    }
+
+    /**
+     * Obtiene la versión actual de una colección.
+     *
+     * @param collection La colección.
+     * @return La versión, con su ETag y fecha de última modificación.
+     */
+    public Version current(ResourceCollection collection) {
+        return versions.get(collection).get();
+    }
+
+    /**
+     * Aumenta la versión de las colecciones indicadas. La fecha de última modificación avanza al menos un segundo
+     * por cambio, ya que If-Modified-Since solo tiene precisión de segundos.
+     *
+     * @param collections Las colecciones modificadas.
+     */
+    public void bump(ResourceCollection... collections) {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        for (ResourceCollection collection : collections) {
+            versions.get(collection).updateAndGet(previous -> toVersion(
+                    collection,
+                    previous.number() + 1,
+                    Math.max(now, previous.lastModified() + 1000)));
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupplierChanged(SupplierChangedEvent event) {
+        bump(ResourceCollection.SUPPLIERS);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationChanged(PublicationChangedEvent event) {
+        bump(ResourceCollection.PUBLICATIONS);
+    }
+
+    /**
+     * Los proveedores incluyen su país, provincia y categoría, por lo que también cambian con los datos de referencia.
+     *
+     * @param event El evento de cambio.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        bump(ResourceCollection.COUNTRIES, ResourceCollection.PROVINCES, ResourceCollection.CATEGORIES,
+                ResourceCollection.SUPPLIERS);
+    }
+
+    private Version toVersion(ResourceCollection collection, long number, long lastModified) {
+        String etag = "\"" + collection.name().toLowerCase() + "-" + bootId + "-" + number + "\"";
+        return new Version(number, etag, lastModified);
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis / 1000 * 1000;
+    }
+
+    public record Version(long number, String etag, long lastModified) {
+    }
+}
@@ -2,8 +2,10 @@ package semillero.ecosistema.services;
 
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import semillero.ecosistema.entities.Country;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
 import semillero.ecosistema.repositories.CountryRepository;
 
 import java.util.List;
@@ -15,10 +17,18 @@ public class CountryService {
     @Autowired
     private CountryRepository countryRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Country save(Country country) throws Exception{
         try {
-            return countryRepository.save(country);
+            Country saved = countryRepository.save(country);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+            return saved;
         }catch (Exception e){
             throw new Exception(e.getMessage());
         }
@@ -30,7 +40,9 @@ public class CountryService {
             Country countryById =
                     countryRepository.findById(id).orElseThrow(()->new Exception("Country with id " + id + "not found"));
                     countryById.setName(country.getName());
-                    return countryRepository.save(countryById);
+                    Country saved = countryRepository.save(countryById);
+                    eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+                    return saved;
         }catch (Exception e){
             throw new Exception(e.getMessage());
         }
@@ -42,6 +54,7 @@ public class CountryService {
             Country countryById =
                     countryRepository.findById(id).orElseThrow(()->new Exception("Country with ID " + id + " not found"));
             countryRepository.delete(countryById);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         }catch (Exception e){
             throw new Exception("Error deleting country with ID " + id + ": " + e.getMessage());
         }
@@ -49,7 +62,7 @@ public class CountryService {
 
     public List<Country> findAllCountries() throws Exception{
         try {
-            return countryRepository.findAll();
+            return referenceDataCache.getCountries();
         }catch (Exception e){
             throw new Exception("Error trying to retrieve all countries: " + e.getMessage());
         }
@@ -57,7 +70,7 @@ public class CountryService {
 
     public Optional<Country> findById(Long id) throws Exception{
         try {
-            return countryRepository.findById(id);
+            return referenceDataCache.getCountry(id);
         }catch (Exception e){
             throw new Exception("Error trying to retrieve the country by ID: " + id + ". " + e.getMessage());
         }
@@ -7,13 +7,19 @@ import com.google.maps.model.AddressComponent;
 import com.google.maps.model.AddressComponentType;
 import com.google.maps.model.GeocodingResult;
 import com.google.maps.model.LatLng;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import semillero.ecosistema.exceptions.GeocodingException;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 @Service
 public class GeocodingService {
@@ -21,6 +27,45 @@ public class GeocodingService {
     @Autowired
     private GeoApiContext context;
 
+    @Autowired
+    private LocalGeocoder localGeocoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${geocoding.google-fallback:true}")
+    private boolean googleFallback;
+
+    @Value("${geocoding.cache.cell-size:0.01}")
+    private double cellSize;
+
+    @Value("${geocoding.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${geocoding.cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // Orden de acceso: el primer elemento es el menos usado recientemente.
+    private final LinkedHashMap<Cell, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Counter hits;
+
+    private Counter misses;
+
+    private Counter evictions;
+
+    @PostConstruct
+    public void registerMetrics() {
+        hits = meterRegistry.counter("geocoding.cache.requests", "result", "hit");
+        misses = meterRegistry.counter("geocoding.cache.requests", "result", "miss");
+        evictions = meterRegistry.counter("geocoding.cache.evictions");
+        Gauge.builder("geocoding.cache.size", cache, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).register(meterRegistry);
+    }
+
     /**
      * Realiza una consulta de geocodificación inversa para obtener la dirección asociada a unas coordenadas geográficas.
      *
@@ -38,6 +83,8 @@ public class GeocodingService {
 
     /**
      * Obtiene información de ubicación (país, provincia y ciudad) basada en las coordenadas geográficas proporcionadas.
+     * Las coordenadas se agrupan en celdas de tamaño configurable y el resultado de cada celda se guarda en caché.
+     * Si varias consultas piden a la vez una celda que no está en caché, comparten una única resolución.
      *
      * @param lat La latitud de las coordenadas.
      * @param lng La longitud de las coordenadas.
@@ -45,6 +92,70 @@ public class GeocodingService {
      * @throws GeocodingException Si ocurre un error durante el proceso de obtención de información de ubicación.
      */
     public Map<String, String> getLocation(Double lat, Double lng) throws GeocodingException {
+        Cell cell = new Cell(Math.round(lat / cellSize), Math.round(lng / cellSize));
+        long now = System.currentTimeMillis();
+        CacheEntry entry;
+        boolean owner = false;
+
+        synchronized (cache) {
+            entry = cache.get(cell);
+            if (entry == null || entry.expiresAt <= now) {
+                if (entry != null) {
+                    cache.remove(cell);
+                    evictions.increment();
+                }
+                entry = new CacheEntry(new CompletableFuture<>(), now + ttlMinutes * 60_000);
+                cache.put(cell, entry);
+                owner = true;
+                evictOverflow();
+            }
+        }
+
+        if (owner) {
+            misses.increment();
+            try {
+                entry.location.complete(Collections.unmodifiableMap(
+                        resolveLocation(cell.lat * cellSize, cell.lng * cellSize)));
+            } catch (GeocodingException | RuntimeException e) {
+                // Los errores no se guardan en caché: la próxima consulta vuelve a intentar.
+                synchronized (cache) {
+                    cache.remove(cell, entry);
+                }
+                entry.location.completeExceptionally(e);
+            }
+        } else {
+            hits.increment();
+        }
+
+        try {
+            return entry.location.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeocodingException("Interrupted while getting location information for coordinates " + lat + " and " + lng);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GeocodingException geocodingException) {
+                throw geocodingException;
+            }
+            throw new GeocodingException("Error getting location information for coordinates " + lat + " and " + lng);
+        }
+    }
+
+    /**
+     * Resuelve país, provincia y ciudad de unas coordenadas sin pasar por la caché.
+     * Primero se resuelve con los límites cargados localmente; la API de Google solo se consulta si el punto
+     * no cae dentro de ningún país conocido y el respaldo está habilitado.
+     *
+     * @param lat La latitud de las coordenadas.
+     * @param lng La longitud de las coordenadas.
+     * @return Un mapa que contiene información de ubicación, donde las claves son "country", "province" y "city".
+     * @throws GeocodingException Si ocurre un error durante el proceso de obtención de información de ubicación.
+     */
+    private Map<String, String> resolveLocation(double lat, double lng) throws GeocodingException {
+        Map<String, String> local = localGeocoder.resolve(lat, lng);
+        if (local.containsKey(LocalGeocoder.COUNTRY) || !googleFallback) {
+            return local;
+        }
+
         try {
             GeocodingResult[] results = reverseGeocoding(lat, lng);
             Map<String, String> location = new HashMap<>();
@@ -74,4 +185,19 @@ public class GeocodingService {
             throw new GeocodingException("Error getting location information for coordinates " + lat + " and " + lng);
         }
     }
+
+    private void evictOverflow() {
+        Iterator<CacheEntry> iterator = cache.values().iterator();
+        while (cache.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Cell(long lat, long lng) {
+    }
+
+    private record CacheEntry(CompletableFuture<Map<String, String>> location, long expiresAt) {
+    }
 }
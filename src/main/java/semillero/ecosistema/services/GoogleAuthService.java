@@ -0,0 +1,73 @@
+package semillero.ecosistema.services;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import semillero.ecosistema.utils.CachingGooglePublicKeysManager;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+/**
+ * Verifica los tokens de identidad de Google con un único verificador compartido. Las claves públicas se
+ * descargan al iniciar la aplicación y se renuevan en segundo plano antes de vencer, para que los inicios
+ * de sesión no tengan que esperar a Google.
+ */
+@Slf4j
+@Service
+public class GoogleAuthService {
+
+    @Autowired
+    private GoogleIdTokenVerifier verifier;
+
+    @Autowired
+    private CachingGooglePublicKeysManager publicKeysManager;
+
+    @Value("${google.auth.refresh-margin-seconds:600}")
+    private long refreshMarginSeconds;
+
+    /**
+     * Verifica la firma, el emisor y el vencimiento de un token de identidad de Google.
+     *
+     * @param idToken El token recibido del cliente.
+     * @return El contenido del token, o null si no es válido.
+     * @throws GeneralSecurityException Si las claves públicas no pueden leerse.
+     * @throws IOException              Si no se pudieron obtener las claves públicas.
+     */
+    public GoogleIdToken.Payload verify(String idToken) throws GeneralSecurityException, IOException {
+        GoogleIdToken token = verifier.verify(idToken);
+        return token == null ? null : token.getPayload();
+    }
+
+    /**
+     * Descarga las claves públicas de Google al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshKeys();
+    }
+
+    /**
+     * Renueva las claves públicas cuando están por vencer según el Cache-Control de la última descarga.
+     */
+    @Scheduled(fixedDelayString = "${google.auth.refresh-check-ms:60000}")
+    public void refreshIfExpiring() {
+        if (publicKeysManager.isExpiringWithin(refreshMarginSeconds * 1000)) {
+            refreshKeys();
+        }
+    }
+
+    private void refreshKeys() {
+        try {
+            publicKeysManager.refresh();
+        } catch (Exception e) {
+            log.warn("Error loading Google public keys: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package semillero.ecosistema.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cuenta las referencias a cada imagen almacenada por contenido. Las imágenes idénticas se comparten entre
+ * proveedores, publicaciones y categorías de la misma carpeta, y solo se eliminan del almacenamiento cuando
+ * deja de usarlas el último. Ambas operaciones deben ejecutarse dentro de la transacción que agrega o quita
+ * las entidades de imagen.
+ */
+@Service
+public class ImageReferenceService {
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO stored_image (folder, hash, path, card_path, thumbnail_path, reference_count) VALUES (?, ?, ?, ?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE reference_count = reference_count + 1";
+
+    private static final String RELEASE_SQL =
+            "UPDATE stored_image SET reference_count = reference_count - 1 WHERE folder = ? AND hash = ?";
+
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM stored_image WHERE folder = ? AND hash = ? AND reference_count <= 0";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssetDeletionService assetDeletionService;
+
+    /**
+     * Suma una referencia por cada imagen, registrando las que todavía no estaban almacenadas.
+     *
+     * @param images Las imágenes que se asocian a una entidad.
+     * @param folder La carpeta en la que se encuentran las imágenes.
+     */
+    public void acquire(List<UploadedImage> images, String folder) {
+        if (images.isEmpty()) return;
+
+        List<Object[]> batch = new ArrayList<>();
+        for (UploadedImage image : images) {
+            batch.add(new Object[]{folder, image.name(), image.path(), image.cardPath(), image.thumbnailPath()});
+        }
+
+        jdbcTemplate.batchUpdate(ACQUIRE_SQL, batch);
+    }
+
+    /**
+     * Resta una referencia por cada imagen y programa la eliminación de las que ya no se usan. Las imágenes
+     * subidas antes de la deduplicación no tienen registro y se eliminan directamente.
+     *
+     * @param names  Los nombres de las imágenes que dejan de estar asociadas a una entidad.
+     * @param folder La carpeta en la que se encuentran las imágenes.
+     */
+    public void release(List<String> names, String folder) {
+        if (names.isEmpty()) return;
+
+        List<Object[]> batch = names.stream().map(name -> new Object[]{folder, name}).toList();
+        int[] released = jdbcTemplate.batchUpdate(RELEASE_SQL, batch);
+
+        List<String> unreferenced = new ArrayList<>();
+        List<Object[]> stored = new ArrayList<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            if (released[i] == 0) {
+                unreferenced.add(names.get(i));
+            } else {
+                stored.add(batch.get(i));
+            }
+        }
+
+        // Cada fila se elimina una sola vez aunque el nombre se repita en la lista
+        if (!stored.isEmpty()) {
+            int[] deleted = jdbcTemplate.batchUpdate(DELETE_UNREFERENCED_SQL, stored);
+            for (int i = 0; i < stored.size(); i++) {
+                if (deleted[i] > 0) {
+                    unreferenced.add((String) stored.get(i)[1]);
+                }
+            }
+        }
+
+        assetDeletionService.enqueue(unreferenced, folder);
+    }
+}
@@ -0,0 +1,43 @@
+package semillero.ecosistema.services;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Almacenamiento de imágenes. La implementación se elige con la propiedad image.storage.type
+ * ("cloudinary" por defecto, o "local"). Las implementaciones solo guardan el contenido recibido;
+ * las imágenes se validan antes, en ImageUploadService.
+ */
+public interface ImageStorage {
+
+    /**
+     * Guarda una imagen con el nombre y la carpeta especificados.
+     * @param image El archivo de imagen a ser guardado.
+     * @param name El nombre que se asignará a la imagen.
+     * @param folder La carpeta en la que se almacenará la imagen.
+     * @return La URL pública de la imagen.
+     * @throws IOException Si la imagen no pudo leerse o guardarse.
+     */
+    String uploadImage(MultipartFile image, String name, String folder) throws IOException;
+
+    /**
+     * Guarda contenido ya procesado (por ejemplo, una versión reducida de una imagen validada).
+     * @param content El contenido de la imagen.
+     * @param name El nombre que se asignará a la imagen.
+     * @param folder La carpeta en la que se almacenará la imagen.
+     * @return La URL pública de la imagen.
+     * @throws IOException Si la imagen no pudo guardarse.
+     */
+    String uploadBytes(byte[] content, String name, String folder) throws IOException;
+
+    /**
+     * Elimina varias imágenes.
+     * @param publicIds Los identificadores (carpeta/nombre) de las imágenes a eliminar.
+     * @return Los identificadores que ya no existen, ya sea porque se eliminaron o porque no se encontraron.
+     * @throws Exception Si ocurre un error durante la eliminación.
+     */
+    Set<String> deleteImages(List<String> publicIds) throws Exception;
+}
@@ -0,0 +1,148 @@
+package semillero.ecosistema.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.entities.StoredImage;
+import semillero.ecosistema.enumerations.ImageRendition;
+import semillero.ecosistema.repositories.StoredImageRepository;
+import semillero.ecosistema.utils.ImageResizer;
+import semillero.ecosistema.utils.ImageUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+public class ImageUploadService {
+
+    @Autowired
+    private ImageStorage imageStorage;
+
+    @Autowired
+    private AssetDeletionService assetDeletionService;
+
+    @Autowired
+    private ImageResizer imageResizer;
+
+    @Autowired
+    private ImageUtil imageUtil;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Autowired
+    @Qualifier("imageUploadExecutor")
+    private TaskExecutor executor;
+
+    /**
+     * Valida y sube un conjunto de imágenes en paralelo, junto con sus versiones reducidas (tarjeta y
+     * miniatura). Cada imagen se nombra con el SHA-256 de su contenido, y las que ya estaban almacenadas
+     * en la carpeta se reutilizan sin volver a subirlas. Si alguna falla, se eliminan las que se acababan
+     * de subir y se lanza la excepción de la primera que falló.
+     *
+     * @param images Lista de archivos de imágenes a ser cargados.
+     * @param folder La carpeta en la que se almacenarán las imágenes.
+     * @return Las imágenes subidas, en el mismo orden que los archivos recibidos.
+     * @throws IOException Si alguna imagen es inválida o no se pudo subir.
+     */
+    public List<UploadedImage> uploadAll(List<MultipartFile> images, String folder) throws IOException {
+        List<CompletableFuture<UploadedImage>> futures = new ArrayList<>();
+
+        for (MultipartFile image : images) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(image, folder), executor));
+        }
+
+        List<UploadedImage> uploaded = new ArrayList<>();
+        Throwable failure = null;
+
+        for (CompletableFuture<UploadedImage> future : futures) {
+            try {
+                uploaded.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) failure = e.getCause();
+            }
+        }
+
+        if (failure != null) {
+            discard(uploaded, folder);
+            throw failure instanceof IOException ioException
+                    ? ioException
+                    : new IOException(failure.getMessage(), failure);
+        }
+
+        return uploaded;
+    }
+
+    /**
+     * Programa la eliminación de las imágenes recién subidas que no llegaron a asociarse a ninguna entidad.
+     * Las reutilizadas, o las que otra operación registró mientras tanto, se conservan.
+     *
+     * @param uploaded Las imágenes devueltas por uploadAll.
+     * @param folder   La carpeta en la que se encuentran las imágenes.
+     */
+    public void discard(List<UploadedImage> uploaded, String folder) {
+        List<String> names = uploaded.stream()
+                .filter(image -> !image.reused())
+                .map(UploadedImage::name)
+                .filter(name -> storedImageRepository.findByFolderAndHash(folder, name).isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+
+        assetDeletionService.enqueue(names, folder);
+    }
+
+    /**
+     * Sube la imagen original y sus versiones reducidas, salvo que ya exista una imagen con el mismo
+     * contenido. Si alguna versión falla después de subir la original, se programa la eliminación de
+     * todo lo que se haya subido con ese nombre.
+     */
+    private UploadedImage upload(MultipartFile image, String folder) {
+        String name;
+        try {
+            if (!imageUtil.isValidImage(image)) {
+                throw new IOException("Invalid image or image size exceeds the allowed limit.");
+            }
+            name = imageUtil.contentHash(image);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+
+        Optional<StoredImage> stored = storedImageRepository.findByFolderAndHash(folder, name);
+        if (stored.isPresent()) {
+            return new UploadedImage(name, stored.get().getPath(), stored.get().getCardPath(),
+                    stored.get().getThumbnailPath(), true);
+        }
+
+        String path = null;
+        try {
+            path = imageStorage.uploadImage(image, name, folder);
+            Map<ImageRendition, byte[]> renditions = imageResizer.createRenditions(image);
+
+            String cardPath = imageStorage.uploadBytes(
+                    renditions.get(ImageRendition.CARD), ImageRendition.CARD.nameFor(name), folder);
+            String thumbnailPath = imageStorage.uploadBytes(
+                    renditions.get(ImageRendition.THUMBNAIL), ImageRendition.THUMBNAIL.nameFor(name), folder);
+
+            return new UploadedImage(name, path, cardPath, thumbnailPath, false);
+        } catch (IOException | RuntimeException e) {
+            if (path != null) assetDeletionService.enqueue(List.of(name), folder);
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Una imagen lista para asociarse a una entidad.
+     *
+     * @param reused true si ya estaba almacenada y no se subió en esta operación.
+     */
+    public record UploadedImage(String name, String path, String cardPath, String thumbnailPath, boolean reused) {
+    }
+}
@@ -0,0 +1,220 @@
+package semillero.ecosistema.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Geocodificación inversa local. Carga los límites de países, provincias y ciudades desde un archivo
+ * GeoJSON y los indexa en una grilla regular, de modo que resolver unas coordenadas solo requiere
+ * revisar los polígonos de una celda.
+ * <p>
+ * Cada feature del GeoJSON debe ser un Polygon o MultiPolygon con las propiedades "level"
+ * ("country", "province" o "city") y "name".
+ */
+@Slf4j
+@Service
+public class LocalGeocoder {
+
+    public static final String COUNTRY = "country";
+    public static final String PROVINCE = "province";
+    public static final String CITY = "city";
+
+    private static final List<String> LEVELS = List.of(COUNTRY, PROVINCE, CITY);
+
+    private static final double CELL_SIZE = 0.5;
+
+    @Value("${geocoding.boundaries-path:classpath:geo/boundaries.geojson}")
+    private Resource boundaries;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Map<Long, List<Boundary>> grid = Map.of();
+
+    @PostConstruct
+    public void init() {
+        if (boundaries == null || !boundaries.exists()) {
+            log.warn("Geocoding boundaries file not found, local reverse geocoding disabled");
+            return;
+        }
+        try (InputStream input = boundaries.getInputStream()) {
+            load(input);
+        } catch (Exception e) {
+            log.warn("Error loading geocoding boundaries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Carga los límites desde un GeoJSON y reemplaza el índice actual.
+     *
+     * @param input El contenido del archivo GeoJSON (FeatureCollection).
+     * @throws IOException Si el contenido no puede leerse.
+     */
+    public void load(InputStream input) throws IOException {
+        JsonNode root = objectMapper.readTree(input);
+        Map<Long, List<Boundary>> cells = new HashMap<>();
+        int count = 0;
+
+        for (JsonNode feature : root.path("features")) {
+            Boundary boundary = toBoundary(feature);
+            if (boundary == null) continue;
+
+            for (long row = cell(boundary.minLat); row <= cell(boundary.maxLat); row++) {
+                for (long col = cell(boundary.minLng); col <= cell(boundary.maxLng); col++) {
+                    cells.computeIfAbsent(key(row, col), k -> new ArrayList<>()).add(boundary);
+                }
+            }
+            count++;
+        }
+
+        grid = cells;
+        log.info("Loaded {} geocoding boundaries into {} grid cells", count, cells.size());
+    }
+
+    /**
+     * Indica si hay límites cargados.
+     *
+     * @return true si el índice contiene al menos un límite.
+     */
+    public boolean isLoaded() {
+        return !grid.isEmpty();
+    }
+
+    /**
+     * Obtiene el país, la provincia y la ciudad que contienen las coordenadas indicadas.
+     * Si varios límites del mismo nivel contienen el punto, se elige el de menor superficie.
+     *
+     * @param lat La latitud de las coordenadas.
+     * @param lng La longitud de las coordenadas.
+     * @return Un mapa con las claves "country", "province" y "city" que se pudieron resolver.
+     */
+    public Map<String, String> resolve(double lat, double lng) {
+        Map<String, String> location = new HashMap<>();
+        List<Boundary> candidates = grid.get(key(cell(lat), cell(lng)));
+        if (candidates == null) return location;
+
+        Map<String, Boundary> best = new HashMap<>();
+        for (Boundary boundary : candidates) {
+            Boundary current = best.get(boundary.level);
+            if ((current == null || boundary.area < current.area) && boundary.contains(lat, lng)) {
+                best.put(boundary.level, boundary);
+            }
+        }
+        best.forEach((level, boundary) -> location.put(level, boundary.name));
+
+        return location;
+    }
+
+    private Boundary toBoundary(JsonNode feature) {
+        String level = feature.path("properties").path("level").asText();
+        String name = feature.path("properties").path("name").asText(null);
+        JsonNode geometry = feature.path("geometry");
+
+        if (!LEVELS.contains(level) || name == null) return null;
+
+        List<double[][][]> polygons = new ArrayList<>();
+        switch (geometry.path("type").asText()) {
+            case "Polygon" -> polygons.add(toRings(geometry.path("coordinates")));
+            case "MultiPolygon" -> geometry.path("coordinates").forEach(polygon -> polygons.add(toRings(polygon)));
+            default -> {
+                return null;
+            }
+        }
+
+        return new Boundary(level, name, polygons);
+    }
+
+    // Cada anillo es un arreglo de puntos [lng, lat], como en GeoJSON.
+    private double[][][] toRings(JsonNode polygon) {
+        double[][][] rings = new double[polygon.size()][][];
+        for (int r = 0; r < polygon.size(); r++) {
+            JsonNode ring = polygon.get(r);
+            rings[r] = new double[ring.size()][];
+            for (int p = 0; p < ring.size(); p++) {
+                rings[r][p] = new double[]{ring.get(p).get(0).asDouble(), ring.get(p).get(1).asDouble()};
+            }
+        }
+        return rings;
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private static final class Boundary {
+
+        private final String level;
+        private final String name;
+        private final List<double[][][]> polygons;
+        private double minLat = Double.MAX_VALUE;
+        private double maxLat = -Double.MAX_VALUE;
+        private double minLng = Double.MAX_VALUE;
+        private double maxLng = -Double.MAX_VALUE;
+        private double area;
+
+        private Boundary(String level, String name, List<double[][][]> polygons) {
+            this.level = level;
+            this.name = name;
+            this.polygons = polygons;
+
+            for (double[][][] polygon : polygons) {
+                if (polygon.length == 0) continue;
+                for (double[] point : polygon[0]) {
+                    minLng = Math.min(minLng, point[0]);
+                    maxLng = Math.max(maxLng, point[0]);
+                    minLat = Math.min(minLat, point[1]);
+                    maxLat = Math.max(maxLat, point[1]);
+                }
+                area += Math.abs(signedArea(polygon[0]));
+            }
+        }
+
+        private boolean contains(double lat, double lng) {
+            if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) return false;
+
+            for (double[][][] polygon : polygons) {
+                if (polygon.length == 0 || !inRing(polygon[0], lat, lng)) continue;
+
+                boolean inHole = false;
+                for (int h = 1; h < polygon.length && !inHole; h++) {
+                    inHole = inRing(polygon[h], lat, lng);
+                }
+                if (!inHole) return true;
+            }
+            return false;
+        }
+
+        // Algoritmo de ray casting: cuenta los cruces de una semirrecta horizontal con los lados del anillo.
+        private static boolean inRing(double[][] ring, double lat, double lng) {
+            boolean inside = false;
+            for (int i = 0, j = ring.length - 1; i < ring.length; j = i++) {
+                double xi = ring[i][0], yi = ring[i][1];
+                double xj = ring[j][0], yj = ring[j][1];
+                if ((yi > lat) != (yj > lat) && lng < (xj - xi) * (lat - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+
+        private static double signedArea(double[][] ring) {
+            double sum = 0;
+            for (int i = 0, j = ring.length - 1; i < ring.length; j = i++) {
+                sum += (ring[j][0] * ring[i][1]) - (ring[i][0] * ring[j][1]);
+            }
+            return sum / 2;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package semillero.ecosistema.services;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.enumerations.ImageFormat;
+import semillero.ecosistema.utils.ImageUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Almacenamiento de imágenes en el disco local. Cada imagen se guarda en {root}/{carpeta}/{nombre}
+ * y se sirve desde ImageController.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private static final Pattern SEGMENT = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]*");
+
+    @Autowired
+    private ImageUtil imageUtil;
+
+    @Value("${image.storage.local.root:./data/images}")
+    private Path root;
+
+    @Value("${image.storage.local.base-url:/api/images}")
+    private String baseUrl;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = root.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+    }
+
+    @Override
+    public String uploadImage(MultipartFile image, String name, String folder) throws IOException {
+        try (InputStream input = image.getInputStream()) {
+            return write(input, name, folder);
+        }
+    }
+
+    @Override
+    public String uploadBytes(byte[] content, String name, String folder) throws IOException {
+        return write(new ByteArrayInputStream(content), name, folder);
+    }
+
+    @Override
+    public Set<String> deleteImages(List<String> publicIds) {
+        Set<String> gone = new HashSet<>();
+
+        for (String publicId : publicIds) {
+            int slash = publicId.lastIndexOf('/');
+            Optional<Path> path = slash < 0
+                    ? Optional.empty()
+                    : resolve(publicId.substring(0, slash), publicId.substring(slash + 1));
+            try {
+                if (path.isPresent()) {
+                    Files.deleteIfExists(path.get());
+                }
+                gone.add(publicId);
+            } catch (IOException e) {
+                log.warn("Error deleting image {}: {}", publicId, e.getMessage());
+            }
+        }
+
+        return gone;
+    }
+
+    /**
+     * Obtiene el archivo de una imagen guardada.
+     *
+     * @param folder La carpeta de la imagen.
+     * @param name   El nombre de la imagen.
+     * @return La ruta del archivo, o vacío si el nombre no es válido o la imagen no existe.
+     */
+    public Optional<Path> find(String folder, String name) {
+        return resolve(folder, name).filter(Files::isRegularFile);
+    }
+
+    /**
+     * Detecta el tipo de contenido de una imagen a partir de sus primeros bytes.
+     *
+     * @param path La ruta del archivo.
+     * @return El tipo MIME de la imagen, o application/octet-stream si no se reconoce.
+     */
+    public String contentType(Path path) {
+        try (InputStream input = Files.newInputStream(path)) {
+            return imageUtil.detectFormat(input.readNBytes(8))
+                    .map(ImageFormat::getContentType)
+                    .orElse("application/octet-stream");
+        } catch (IOException e) {
+            return "application/octet-stream";
+        }
+    }
+
+    private String write(InputStream input, String name, String folder) throws IOException {
+        Path target = resolve(folder, name)
+                .orElseThrow(() -> new IOException("Invalid image name: " + folder + "/" + name));
+        Files.createDirectories(target.getParent());
+
+        // Se escribe en un archivo temporal y se mueve, para no servir nunca una imagen a medio escribir
+        Path temp = Files.createTempFile(target.getParent(), name, ".tmp");
+        try {
+            Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        return baseUrl + "/" + folder + "/" + name;
+    }
+
+    private Optional<Path> resolve(String folder, String name) {
+        if (!SEGMENT.matcher(folder).matches() || !SEGMENT.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(root.resolve(folder).resolve(name));
+    }
+}
@@ -2,8 +2,10 @@ package semillero.ecosistema.services;
 
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import semillero.ecosistema.entities.Province;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
 import semillero.ecosistema.repositories.ProvinceRepository;
 
 import java.util.List;
@@ -14,10 +16,18 @@ public class ProvinceService {
     @Autowired
     private ProvinceRepository provinceRepository;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Province save(Province province) throws Exception{
         try {
-            return provinceRepository.save(province);
+            Province saved = provinceRepository.save(province);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+            return saved;
         }catch (Exception e){
             throw new Exception(e.getMessage());
         }
@@ -29,7 +39,9 @@ public class ProvinceService {
             Province provinceById =
                     provinceRepository.findById(id).orElseThrow(()->new Exception("Province with id " + id + "not found"));
             provinceById.setName(province.getName());
-            return provinceRepository.save(provinceById);
+            Province saved = provinceRepository.save(provinceById);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
+            return saved;
         }catch (Exception e){
             throw new Exception(e.getMessage());
         }
@@ -41,6 +53,7 @@ public class ProvinceService {
             Province provinceById =
                     provinceRepository.findById(id).orElseThrow(()->new Exception("Province with ID " + id + " not found"));
             provinceRepository.delete(provinceById);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent());
         }catch (Exception e){
             throw new Exception("Error deleting province with ID " + id + ": " + e.getMessage());
         }
@@ -48,14 +61,14 @@ public class ProvinceService {
 
     public List<Province> findAllProvinces() throws Exception{
         try {
-            return provinceRepository.findAll();
+            return referenceDataCache.getProvinces();
         }catch (Exception e){
             throw new Exception("Error trying to retrieve all provinces: " + e.getMessage());
         }
     }
     public List<Province> getProvincesByCountry(Long countryId) throws Exception {
         try{
-            return provinceRepository.findByCountryId(countryId);
+            return referenceDataCache.getProvincesByCountry(countryId);
         }catch (Exception e){
             throw new Exception("Error trying to retrieve all provinces by country: " + e.getMessage());
         }
@@ -63,7 +76,7 @@ public class ProvinceService {
 
     public Optional<Province> findById(Long id) throws Exception{
         try {
-            return provinceRepository.findById(id);
+            return referenceDataCache.getProvince(id);
         }catch (Exception e){
             throw new Exception("Error trying to retrieve the province by ID: " + id + ". " + e.getMessage());
         }
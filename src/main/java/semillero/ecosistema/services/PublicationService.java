@@ -3,7 +3,9 @@ package semillero.ecosistema.services;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import semillero.ecosistema.dtos.publication.PublicationDTO;
 import semillero.ecosistema.dtos.publication.PublicationRequestDTO;
@@ -11,17 +13,18 @@ import semillero.ecosistema.dtos.publication.PublicationStatisticsDTO;
 import semillero.ecosistema.entities.Publication;
 import semillero.ecosistema.entities.PublicationImage;
 import semillero.ecosistema.entities.User;
+import semillero.ecosistema.events.PublicationChangedEvent;
 import semillero.ecosistema.exceptions.PublicationNotFoundException;
 import semillero.ecosistema.mappers.PublicationMapper;
 import semillero.ecosistema.repositories.PublicationImageRepository;
 import semillero.ecosistema.repositories.PublicationRepository;
 import semillero.ecosistema.repositories.UserRepository;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,57 +37,90 @@ public class PublicationService {
     @Autowired
     private PublicationImageRepository publicationImageRepository;
     @Autowired
-    private CloudinaryService cloudinaryService;
+    private ImageReferenceService imageReferenceService;
     @Autowired
     private PublicationMapper publicationMapper;
+    @Autowired
+    private PublicationViewCounter publicationViewCounter;
+    @Autowired
+    private ImageUploadService imageUploadService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     private final String CLOUDINARY_FOLDER = "publicaciones";
 
 
-    @Transactional
     public PublicationDTO save(PublicationRequestDTO publicationRequestDTO, List<MultipartFile> images) throws Exception {
         try {
-            Publication publication = publicationMapper.toEntity(publicationRequestDTO);
-
             User user = userRepository.findById(publicationRequestDTO.getUserId())
                     .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + publicationRequestDTO.getUserId()));
 
-            List<PublicationImage> publicationImages = uploadPublicationImages(images, publication);
+            // Subir imágenes a Cloudinary en paralelo, antes de abrir la transacción
+            List<UploadedImage> uploaded = imageUploadService.uploadAll(images, CLOUDINARY_FOLDER);
 
-            publication.setTitle(publicationRequestDTO.getTitle());
-            publication.setDescription(publicationRequestDTO.getDescription());
-            publication.setDateOfCreation(LocalDate.now());
-            publication.setDeleted(false);
-            publication.setVisualizationsAmount(0);
-            publication.setImages(publicationImages);
-            publication.setUserCreator(user);
-            publicationRepository.save(publication);
+            try {
+                return transactionTemplate.execute(status -> {
+                    Publication publication = publicationMapper.toEntity(publicationRequestDTO);
 
-            return publicationMapper.toDTO(publication);
+                    publication.setTitle(publicationRequestDTO.getTitle());
+                    publication.setDescription(publicationRequestDTO.getDescription());
+                    publication.setDateOfCreation(LocalDate.now());
+                    publication.setDeleted(false);
+                    publication.setVisualizationsAmount(0);
+                    publication.setImages(toPublicationImages(uploaded, publication));
+                    imageReferenceService.acquire(uploaded, CLOUDINARY_FOLDER);
+                    publication.setUserCreator(user);
+                    publicationRepository.save(publication);
+                    eventPublisher.publishEvent(new PublicationChangedEvent());
 
+                    return publicationMapper.toDTO(publication);
+                });
+            } catch (RuntimeException e) {
+                imageUploadService.discard(uploaded, CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (Exception e) {
             throw new Exception("Error al crear la publicación", e);
         }
     }
 
-    @Transactional
     public PublicationDTO update(Long id, PublicationRequestDTO publicationRequestDTO, List<MultipartFile> images) throws Exception {
         try {
-            Publication publication = publicationRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Publicación no encontrada con el id: " + id));
+            if (!publicationRepository.existsById(id)) {
+                throw new EntityNotFoundException("Publicación no encontrada con el id: " + id);
+            }
 
-            publication.setTitle(publicationRequestDTO.getTitle());
-            publication.setDescription(publicationRequestDTO.getDescription());
+            // Subir imágenes nuevas a Cloudinary en paralelo, antes de abrir la transacción
+            List<UploadedImage> uploaded = imageUploadService.uploadAll(images, CLOUDINARY_FOLDER);
+            try {
+                return transactionTemplate.execute(status -> {
+                    Publication publication = publicationRepository.findById(id)
+                            .orElseThrow(() -> new EntityNotFoundException("Publicación no encontrada con el id: " + id));
 
-            for (PublicationImage oldImage : publication.getImages()) {
-                cloudinaryService.deleteImage(oldImage.getName(), CLOUDINARY_FOLDER);
-                publicationImageRepository.delete(oldImage);
-            }
-            List<PublicationImage> publicationImages = uploadPublicationImages(images, publication);
-            publication.setImages(publicationImages);
+                    publication.setTitle(publicationRequestDTO.getTitle());
+                    publication.setDescription(publicationRequestDTO.getDescription());
 
-            publicationRepository.save(publication);
+                    // Reemplazar imágenes anteriores. Las referencias nuevas se suman antes de liberar las anteriores,
+                    // así las imágenes que se mantienen no se eliminan ni se vuelven a subir
+                    List<String> oldImageNames = new ArrayList<>();
+                    for (PublicationImage oldImage : publication.getImages()) {
+                        publicationImageRepository.delete(oldImage);
+                        oldImageNames.add(oldImage.getName());
+                    }
+                    imageReferenceService.acquire(uploaded, CLOUDINARY_FOLDER);
+                    imageReferenceService.release(oldImageNames, CLOUDINARY_FOLDER);
+                    publication.setImages(toPublicationImages(uploaded, publication));
 
-            return publicationMapper.toDTO(publication);
+                    publicationRepository.save(publication);
+                    eventPublisher.publishEvent(new PublicationChangedEvent());
+
+                    return publicationMapper.toDTO(publication);
+                });
+            } catch (RuntimeException e) {
+                imageUploadService.discard(uploaded, CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(e.getMessage());
         } catch (IOException e) {
@@ -100,13 +136,11 @@ public class PublicationService {
             Publication existingPublication = publicationRepository.findById(id)
                     .orElseThrow(() -> new PublicationNotFoundException("Publicación no encontrada con ID: " + id));
 
-            List<PublicationImage> images = existingPublication.getImages();
-            for (PublicationImage image : images) {
-                String name = image.getName();
-                String folder = "imágenes" + existingPublication.getUserCreator().getUsername();
-                cloudinaryService.deleteImage(name, folder);
-            }
+            imageReferenceService.release(existingPublication.getImages().stream()
+                    .map(PublicationImage::getName)
+                    .collect(Collectors.toList()), CLOUDINARY_FOLDER);
             publicationRepository.delete(existingPublication);
+            eventPublisher.publishEvent(new PublicationChangedEvent());
         } catch (PublicationNotFoundException e) {
             throw new PublicationNotFoundException(e.getMessage());
         } catch (Exception e) {
@@ -121,6 +155,7 @@ public class PublicationService {
 
             existingPublication.setDeleted(true);
             publicationRepository.save(existingPublication);
+            eventPublisher.publishEvent(new PublicationChangedEvent());
         } catch (PublicationNotFoundException e) {
             throw new PublicationNotFoundException(e.getMessage());
         } catch (Exception e) {
@@ -128,22 +163,20 @@ public class PublicationService {
         }
     }
     /**
-     * Carga las imágenes de la publicación en Cloudinary y crea entidades PublicationImage asociadas.
+     * Crea las entidades PublicationImage asociadas a imágenes ya subidas a Cloudinary.
      *
-     * @param images      Lista de archivos de imágenes a ser cargados.
+     * @param uploaded    Las imágenes subidas.
      * @param publication La publicación a la que se asociarán las imágenes.
      * @return Lista de entidades PublicationImage creadas.
-     * @throws IOException Es lanzada si ocurre un error durante la manipulación de imágenes.
      */
-    private List<PublicationImage> uploadPublicationImages(List<MultipartFile> images, Publication publication) throws IOException {
+    private List<PublicationImage> toPublicationImages(List<UploadedImage> uploaded, Publication publication) {
         List<PublicationImage> publicationImages = new ArrayList<>();
-        for (MultipartFile image : images) {
-            String name = UUID.randomUUID().toString();
-            String path = cloudinaryService.uploadImage(image, name, CLOUDINARY_FOLDER);
-
+        for (UploadedImage image : uploaded) {
             PublicationImage publicationImage = new PublicationImage();
-            publicationImage.setName(name);
-            publicationImage.setPath(path);
+            publicationImage.setName(image.name());
+            publicationImage.setPath(image.path());
+            publicationImage.setCardPath(image.cardPath());
+            publicationImage.setThumbnailPath(image.thumbnailPath());
             publicationImage.setPublication(publication);
 
             publicationImages.add(publicationImage);
@@ -164,8 +197,7 @@ public class PublicationService {
             Publication publication = publicationRepository.findById(id)
                     .orElseThrow(() -> new EntityNotFoundException("Publication not found with id: " + id));
 
-            publication.setVisualizationsAmount(publication.getVisualizationsAmount()+1);
-            publicationRepository.save(publication);
+            publicationViewCounter.record(id);
 
             return publicationMapper.toDTO(publication);
         } catch (EntityNotFoundException e) {
@@ -207,16 +239,16 @@ public class PublicationService {
 
     /**
      * Incrementa la cantidad de visualizaciones de la publicación según su id en 1.
+     * El incremento se acumula en memoria y se persiste periódicamente por PublicationViewCounter.
      * @param id Recibe de la publicación su id.
      */
-    @Transactional
     public void increment(Long id) throws Exception {
         try {
-            Publication publication = publicationRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Publication not found with id: " + id));
+            if (!publicationRepository.existsById(id)) {
+                throw new EntityNotFoundException("Publication not found with id: " + id);
+            }
 
-            publication.setVisualizationsAmount(publication.getVisualizationsAmount()+1);
-            publicationRepository.save(publication);
+            publicationViewCounter.record(id);
 
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(e.getMessage());
@@ -226,14 +258,24 @@ public class PublicationService {
     }
 
 
+    /**
+     * Obtiene las visualizaciones de cada publicación sin cargar las publicaciones completas, sumando al valor
+     * guardado las visualizaciones que todavía no se escribieron.
+     */
     public List<PublicationStatisticsDTO> findStatistics() throws Exception {
         try {
-            List<Publication> publications = publicationRepository.findAll();
-
-            return publications.stream().map(publicationMapper::toStatisticsDTO).collect(Collectors.toList());
+            return publicationRepository.findAllProjectedBy().stream()
+                    .map(publication -> {
+                        long persisted = publication.getVisualizationsAmount() == null ? 0L : publication.getVisualizationsAmount();
+                        return new PublicationStatisticsDTO(
+                                publication.getTitle(),
+                                (int) (persisted + publicationViewCounter.getPending(publication.getId())),
+                                publication.getDateOfCreation());
+                    })
+                    .collect(Collectors.toList());
 
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
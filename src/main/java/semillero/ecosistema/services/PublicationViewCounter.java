@@ -0,0 +1,106 @@
+package semillero.ecosistema.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+public class PublicationViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE publication SET visualizations_amount = COALESCE(visualizations_amount, 0) + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una visualización de la publicación. El incremento se acumula en memoria
+     * y se persiste en el próximo volcado periódico.
+     *
+     * @param publicationId El ID de la publicación visualizada.
+     */
+    public void record(Long publicationId) {
+        // El incremento se hace dentro de compute para que no se pierda si el volcado descarta el contador a la vez
+        pending.compute(publicationId, (id, adder) -> {
+            LongAdder counter = adder == null ? new LongAdder() : adder;
+            counter.increment();
+            return counter;
+        });
+    }
+
+    /**
+     * Obtiene la cantidad de visualizaciones acumuladas en memoria que aún no fueron persistidas.
+     *
+     * @param publicationId El ID de la publicación.
+     * @return La cantidad de visualizaciones pendientes de volcado.
+     */
+    public long getPending(Long publicationId) {
+        LongAdder adder = pending.get(publicationId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Vuelca los incrementos acumulados a la tabla de publicaciones en un único batch de UPDATE.
+     * Si el batch falla, los incrementos se devuelven a los contadores para el próximo intento. Si se guarda,
+     * se descartan los contadores que quedaron en cero, para no conservar publicaciones que ya no se visitan.
+     */
+    @Scheduled(fixedDelayString = "${publication.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+
+        pending.forEach((id, adder) -> {
+            long amount = adder.sumThenReset();
+            if (amount > 0) {
+                batch.add(new Object[]{amount, id});
+            }
+        });
+
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            log.warn("Error flushing publication views, retrying on next run: {}", e.getMessage());
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            return;
+        }
+
+        for (Long id : pending.keySet()) {
+            pending.computeIfPresent(id, (key, adder) -> adder.sum() == 0 ? null : adder);
+        }
+
+        try {
+            Map<Long, Long> views = new HashMap<>();
+            for (Object[] row : batch) {
+                views.put((Long) row[1], (Long) row[0]);
+            }
+            statisticsRollupService.recordPublicationViews(views, LocalDate.now());
+        } catch (Exception e) {
+            log.warn("Error recording publication views statistics: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
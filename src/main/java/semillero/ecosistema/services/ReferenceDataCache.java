@@ -0,0 +1,234 @@
+package semillero.ecosistema.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import semillero.ecosistema.dtos.category.CategoryResponseDTO;
+import semillero.ecosistema.entities.Category;
+import semillero.ecosistema.entities.Country;
+import semillero.ecosistema.entities.Province;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.mappers.CategoryMapper;
+import semillero.ecosistema.repositories.CategoryRepository;
+import semillero.ecosistema.repositories.CountryRepository;
+import semillero.ecosistema.repositories.ProvinceRepository;
+import semillero.ecosistema.utils.LongKeyedMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Caché en memoria de países, provincias y categorías, que cambian muy pocas veces al año. Todos los datos se
+ * cargan juntos en una instantánea inmutable, con el JSON de los listados públicos ya serializado, que se
+ * reemplaza completa cuando alguno cambia. Las entidades de la caché están desacopladas de la sesión y solo
+ * deben leerse o usarse como referencia en relaciones.
+ */
+@Slf4j
+@Service
+public class ReferenceDataCache {
+
+    private static final JsonResource EMPTY_LIST = JsonResource.of("[]".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private ProvinceRepository provinceRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final CategoryMapper categoryMapper = CategoryMapper.getInstance();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    public List<Country> getCountries() {
+        return current().countries;
+    }
+
+    public Optional<Country> getCountry(long id) {
+        return Optional.ofNullable(current().countriesById.get(id));
+    }
+
+    public List<Province> getProvinces() {
+        return current().provinces;
+    }
+
+    public Optional<Province> getProvince(long id) {
+        return Optional.ofNullable(current().provincesById.get(id));
+    }
+
+    public List<Province> getProvincesByCountry(long countryId) {
+        List<Province> provinces = current().provincesByCountry.get(countryId);
+        return provinces != null ? provinces : List.of();
+    }
+
+    public List<CategoryResponseDTO> getCategories() {
+        return current().categories;
+    }
+
+    public Optional<Category> getCategory(long id) {
+        return Optional.ofNullable(current().categoriesById.get(id));
+    }
+
+    public JsonResource getCountriesJson() {
+        return current().countriesJson;
+    }
+
+    public JsonResource getProvincesJson() {
+        return current().provincesJson;
+    }
+
+    public JsonResource getProvincesByCountryJson(long countryId) {
+        JsonResource json = current().provincesByCountryJson.get(countryId);
+        return json != null ? json : EMPTY_LIST;
+    }
+
+    public JsonResource getCategoriesJson() {
+        return current().categoriesJson;
+    }
+
+    /**
+     * Carga la caché al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("Error loading reference data cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Descarta la instantánea una vez confirmada la transacción que modificó los datos. La siguiente
+     * consulta la vuelve a cargar.
+     *
+     * @param event El evento de cambio.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (snapshot != null) return snapshot;
+
+            // Si los datos cambian mientras se carga, la instantánea se usa una sola vez y no se guarda
+            long loadedGeneration = generation.get();
+            Snapshot loaded = transactionTemplate.execute(status -> load());
+            if (generation.get() == loadedGeneration) {
+                snapshot = loaded;
+            }
+            return loaded;
+        }
+    }
+
+    private Snapshot load() {
+        List<Country> countries = List.copyOf(countryRepository.findAll());
+        List<Province> provinces = List.copyOf(provinceRepository.findAll());
+        List<Category> categories = List.copyOf(categoryRepository.findAll());
+        List<CategoryResponseDTO> categoryDTOs = List.copyOf(categoryMapper.toResponseDTOsList(categories));
+
+        Map<Long, List<Province>> byCountry = provinces.stream()
+                .filter(province -> province.getCountry() != null)
+                .collect(Collectors.groupingBy(province -> province.getCountry().getId()));
+        List<Map.Entry<Long, List<Province>>> countryProvinces = new ArrayList<>();
+        byCountry.forEach((countryId, list) -> countryProvinces.add(Map.entry(countryId, List.copyOf(list))));
+
+        // Se serializa dentro de la transacción, así las provincias de cada país quedan cargadas
+        return new Snapshot(
+                countries,
+                LongKeyedMap.of(countries, Country::getId, country -> country),
+                provinces,
+                LongKeyedMap.of(provinces, Province::getId, province -> province),
+                LongKeyedMap.of(countryProvinces, Map.Entry::getKey, Map.Entry::getValue),
+                categoryDTOs,
+                LongKeyedMap.of(categories, Category::getId, category -> category),
+                serialize(countries),
+                serialize(provinces),
+                LongKeyedMap.of(countryProvinces, Map.Entry::getKey, entry -> serialize(entry.getValue())),
+                serialize(categoryDTOs)
+        );
+    }
+
+    private JsonResource serialize(Object value) {
+        try {
+            return JsonResource.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing reference data", e);
+        }
+    }
+
+    private record Snapshot(
+            List<Country> countries,
+            LongKeyedMap<Country> countriesById,
+            List<Province> provinces,
+            LongKeyedMap<Province> provincesById,
+            LongKeyedMap<List<Province>> provincesByCountry,
+            List<CategoryResponseDTO> categories,
+            LongKeyedMap<Category> categoriesById,
+            JsonResource countriesJson,
+            JsonResource provincesJson,
+            LongKeyedMap<JsonResource> provincesByCountryJson,
+            JsonResource categoriesJson
+    ) {
+    }
+
+    /**
+     * Un listado ya serializado en JSON, con su ETag.
+     */
+    public record JsonResource(byte[] body, String etag) {
+
+        static JsonResource of(byte[] body) {
+            return new JsonResource(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+
+        /**
+         * Devuelve el JSON, o una respuesta 304 sin cuerpo si el cliente ya tiene esta versión (If-None-Match).
+         *
+         * @param request La solicitud en curso.
+         * @return La respuesta con el JSON y su ETag, o null si ya se respondió 304.
+         */
+        public ResponseEntity<byte[]> toResponse(WebRequest request) {
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(etag)
+                    .body(body);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package semillero.ecosistema.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import semillero.ecosistema.dtos.category.CategoryStatisticsDTO;
+import semillero.ecosistema.dtos.statistics.StatisticsPointDTO;
+import semillero.ecosistema.dtos.supplier.SupplierStatisticsDTO;
+import semillero.ecosistema.entities.Category;
+import semillero.ecosistema.entities.StatisticsRollup;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.enumerations.StatisticsPeriod;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.repositories.CategoryRepository;
+import semillero.ecosistema.repositories.StatisticsRollupRepository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class StatisticsRollupService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO statistics_rollup (metric, dimension, period, period_start, amount) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE amount = amount + ?";
+
+    private static final String REPLACE_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE amount = ?";
+
+    private static final String TOTAL = "";
+
+    private static final LocalDate ALL_TIME_START = LocalDate.of(1970, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsRollupRepository statisticsRollupRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Registra la creación de un proveedor en los contadores por estado y por categoría.
+     *
+     * @param createdAt  La fecha de creación del proveedor.
+     * @param status     El estado inicial del proveedor.
+     * @param categoryId El ID de la categoría del proveedor.
+     */
+    public void recordSupplierCreated(LocalDate createdAt, SupplierStatus status, Long categoryId) {
+        List<Object[]> batch = new ArrayList<>();
+        addRows(batch, StatisticsMetric.SUPPLIERS_BY_STATUS, status.name(), createdAt, 1);
+        addRows(batch, StatisticsMetric.SUPPLIERS_BY_CATEGORY, String.valueOf(categoryId), createdAt, 1);
+        upsert(batch);
+    }
+
+    /**
+     * Registra la creación de varios proveedores con el mismo estado y fecha en un único batch.
+     *
+     * @param createdAt          La fecha de creación de los proveedores.
+     * @param status             El estado inicial de los proveedores.
+     * @param amountByCategoryId La cantidad de proveedores creados por ID de categoría.
+     */
+    public void recordSuppliersCreated(LocalDate createdAt, SupplierStatus status, Map<Long, Long> amountByCategoryId) {
+        List<Object[]> batch = new ArrayList<>();
+        long total = 0;
+
+        for (Map.Entry<Long, Long> entry : amountByCategoryId.entrySet()) {
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_CATEGORY, String.valueOf(entry.getKey()), createdAt, entry.getValue());
+            total += entry.getValue();
+        }
+        if (total > 0) {
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_STATUS, status.name(), createdAt, total);
+        }
+
+        upsert(batch);
+    }
+
+    /**
+     * Mueve un proveedor entre contadores cuando cambia su estado o su categoría. Los contadores se
+     * mantienen en el período de creación del proveedor, igual que las estadísticas mensuales.
+     *
+     * @param createdAt     La fecha de creación del proveedor.
+     * @param oldStatus     El estado anterior.
+     * @param oldCategoryId El ID de la categoría anterior.
+     * @param newStatus     El estado nuevo.
+     * @param newCategoryId El ID de la categoría nueva.
+     */
+    public void recordSupplierChanged(LocalDate createdAt,
+                                      SupplierStatus oldStatus, Long oldCategoryId,
+                                      SupplierStatus newStatus, Long newCategoryId) {
+        List<Object[]> batch = new ArrayList<>();
+
+        if (oldStatus != newStatus) {
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_STATUS, oldStatus.name(), createdAt, -1);
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_STATUS, newStatus.name(), createdAt, 1);
+        }
+        if (!Objects.equals(oldCategoryId, newCategoryId)) {
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_CATEGORY, String.valueOf(oldCategoryId), createdAt, -1);
+            addRows(batch, StatisticsMetric.SUPPLIERS_BY_CATEGORY, String.valueOf(newCategoryId), createdAt, 1);
+        }
+
+        upsert(batch);
+    }
+
+    /**
+     * Mueve varios proveedores entre contadores de estado en un único batch. Los cambios del mismo estado y
+     * día de creación se suman antes de escribirse.
+     *
+     * @param changes Los cambios de estado de los proveedores.
+     */
+    public void recordSupplierStatusChanges(List<StatusChange> changes) {
+        Map<Map.Entry<String, LocalDate>, Long> deltas = new LinkedHashMap<>();
+
+        for (StatusChange change : changes) {
+            if (change.oldStatus() == change.newStatus()) continue;
+            deltas.merge(Map.entry(change.oldStatus().name(), change.createdAt()), -1L, Long::sum);
+            deltas.merge(Map.entry(change.newStatus().name(), change.createdAt()), 1L, Long::sum);
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                addRows(batch, StatisticsMetric.SUPPLIERS_BY_STATUS, key.getKey(), key.getValue(), delta);
+            }
+        });
+        upsert(batch);
+    }
+
+    /**
+     * Registra el alta de un usuario.
+     *
+     * @param createdAt La fecha de creación del usuario.
+     */
+    public void recordUserCreated(LocalDate createdAt) {
+        List<Object[]> batch = new ArrayList<>();
+        addRows(batch, StatisticsMetric.NEW_USERS, TOTAL, createdAt, 1);
+        upsert(batch);
+    }
+
+    /**
+     * Registra visualizaciones de publicaciones, por publicación y en total. El acumulado histórico de cada
+     * publicación es su columna visualizations_amount; aquí solo se guarda la evolución por día y por mes.
+     *
+     * @param views Cantidad de visualizaciones por ID de publicación.
+     * @param day   El día al que se atribuyen las visualizaciones.
+     */
+    public void recordPublicationViews(Map<Long, Long> views, LocalDate day) {
+        List<Object[]> batch = new ArrayList<>();
+        long total = 0;
+
+        for (Map.Entry<Long, Long> entry : views.entrySet()) {
+            addRows(batch, StatisticsMetric.PUBLICATION_VIEWS, String.valueOf(entry.getKey()), day, entry.getValue());
+            total += entry.getValue();
+        }
+        addRows(batch, StatisticsMetric.PUBLICATION_VIEWS, TOTAL, day, total);
+
+        upsert(batch);
+    }
+
+    /**
+     * Obtiene las estadísticas de proveedores de un mes a partir de los contadores acumulados.
+     *
+     * @param month El mes a consultar.
+     * @return Un DTO con la cantidad de proveedores aprobados, en revisión, denegados y por categoría.
+     */
+    public SupplierStatisticsDTO getSupplierStatistics(YearMonth month) {
+        Map<String, Long> byStatus = getMonth(StatisticsMetric.SUPPLIERS_BY_STATUS, month);
+        Map<String, Long> byCategory = getMonth(StatisticsMetric.SUPPLIERS_BY_CATEGORY, month);
+
+        SupplierStatisticsDTO statistics = new SupplierStatisticsDTO();
+        statistics.setApproved(byStatus.getOrDefault(SupplierStatus.ACEPTADO.name(), 0L).intValue());
+        statistics.setInReview(byStatus.getOrDefault(SupplierStatus.REVISION_INICIAL.name(), 0L).intValue());
+        statistics.setDenied(byStatus.getOrDefault(SupplierStatus.DENEGADO.name(), 0L).intValue());
+        statistics.setCategories(categoryRepository.findAll().stream()
+                .sorted(Comparator.comparing(Category::getName))
+                .map(category -> new CategoryStatisticsDTO(
+                        category.getName(),
+                        byCategory.getOrDefault(String.valueOf(category.getId()), 0L).intValue()))
+                .collect(Collectors.toList()));
+
+        return statistics;
+    }
+
+    /**
+     * Obtiene la cantidad de usuarios registrados en un mes.
+     *
+     * @param month El mes a consultar.
+     * @return La cantidad de usuarios registrados.
+     */
+    public Integer getUsersCreated(YearMonth month) {
+        return getMonth(StatisticsMetric.NEW_USERS, month).getOrDefault(TOTAL, 0L).intValue();
+    }
+
+    /**
+     * Obtiene la evolución mensual de una métrica durante los últimos meses, incluyendo el actual.
+     * Los meses sin registros se devuelven con valor 0.
+     *
+     * @param metric    La métrica a consultar.
+     * @param dimension La dimensión de la métrica (estado, ID de categoría o publicación), o null para el total.
+     * @param months    La cantidad de meses a devolver.
+     * @return Una lista ordenada cronológicamente con el valor de cada mes.
+     */
+    public List<StatisticsPointDTO> getMonthlyTrend(StatisticsMetric metric, String dimension, int months) {
+        YearMonth to = YearMonth.now();
+        YearMonth from = to.minusMonths(Math.max(months, 1) - 1L);
+
+        Map<LocalDate, Long> values = statisticsRollupRepository
+                .findAllByMetricAndDimensionAndPeriodAndPeriodStartBetweenOrderByPeriodStart(
+                        metric,
+                        dimension == null ? TOTAL : dimension,
+                        StatisticsPeriod.MONTH,
+                        from.atDay(1),
+                        to.atDay(1))
+                .stream()
+                .collect(Collectors.toMap(StatisticsRollup::getPeriodStart, StatisticsRollup::getAmount));
+
+        List<StatisticsPointDTO> trend = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate start = month.atDay(1);
+            trend.add(new StatisticsPointDTO(start, values.getOrDefault(start, 0L)));
+        }
+
+        return trend;
+    }
+
+    /**
+     * Reconstruye los contadores de proveedores y usuarios desde las tablas base, una única vez. La reconstrucción empieza insertando una fila de marca: si otra
+     * instancia ya la insertó, la clave única lo impide y no se hace nada. La marca se confirma junto con los
+     * contadores, así que si algo falla se vuelve a intentar en el próximo arranque.
+     * <p>
+     * Los contadores se reemplazan en lugar de sumarse, por lo que lo registrado antes de la reconstrucción
+     * no se cuenta dos veces. Las visualizaciones por día y por mes no tienen historial y se acumulan solo a
+     * partir de este momento.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            Boolean done = transactionTemplate.execute(status -> {
+                if (!claimBackfill()) return false;
+
+                Map<RollupKey, Long> amounts = new LinkedHashMap<>();
+
+                jdbcTemplate.query(
+                        "SELECT created_at, status, category_id, COUNT(*) FROM supplier GROUP BY created_at, status, category_id",
+                        rs -> {
+                            LocalDate day = rs.getDate(1).toLocalDate();
+                            long amount = rs.getLong(4);
+                            addAmounts(amounts, StatisticsMetric.SUPPLIERS_BY_STATUS, rs.getString(2), day, amount);
+                            addAmounts(amounts, StatisticsMetric.SUPPLIERS_BY_CATEGORY, String.valueOf(rs.getLong(3)), day, amount);
+                        });
+
+                jdbcTemplate.query(
+                        "SELECT created_at, COUNT(*) FROM user GROUP BY created_at",
+                        rs -> {
+                            addAmounts(amounts, StatisticsMetric.NEW_USERS, TOTAL, rs.getDate(1).toLocalDate(), rs.getLong(2));
+                        });
+
+                List<Object[]> batch = new ArrayList<>();
+                amounts.forEach((key, amount) ->
+                        batch.add(row(key.metric(), key.dimension(), key.period(), key.periodStart(), amount)));
+                if (!batch.isEmpty()) {
+                    jdbcTemplate.batchUpdate(REPLACE_SQL, batch);
+                }
+                return true;
+            });
+
+            if (Boolean.TRUE.equals(done)) {
+                log.info("Statistics rollups backfilled from base tables");
+            }
+        } catch (Exception e) {
+            log.warn("Error backfilling statistics rollups, retrying on next start: {}", e.getMessage());
+        }
+    }
+
+    public record StatusChange(LocalDate createdAt, SupplierStatus oldStatus, SupplierStatus newStatus) {
+    }
+
+    private record RollupKey(StatisticsMetric metric, String dimension, StatisticsPeriod period, LocalDate periodStart) {
+    }
+
+    private Map<String, Long> getMonth(StatisticsMetric metric, YearMonth month) {
+        return statisticsRollupRepository
+                .findAllByMetricAndPeriodAndPeriodStart(metric, StatisticsPeriod.MONTH, month.atDay(1))
+                .stream()
+                .collect(Collectors.toMap(StatisticsRollup::getDimension, StatisticsRollup::getAmount));
+    }
+
+    /**
+     * Inserta la fila de marca de la reconstrucción.
+     *
+     * @return true si esta llamada la insertó, false si ya existía.
+     */
+    private boolean claimBackfill() {
+        try {
+            jdbcTemplate.update(INSERT_SQL, StatisticsMetric.BACKFILL.name(), TOTAL, StatisticsPeriod.ALL_TIME.name(), Date.valueOf(ALL_TIME_START), 1);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void addAmounts(Map<RollupKey, Long> amounts, StatisticsMetric metric, String dimension, LocalDate day, long amount) {
+        amounts.merge(new RollupKey(metric, dimension, StatisticsPeriod.DAY, day), amount, Long::sum);
+        amounts.merge(new RollupKey(metric, dimension, StatisticsPeriod.MONTH, day.withDayOfMonth(1)), amount, Long::sum);
+    }
+
+    private void addRows(List<Object[]> batch, StatisticsMetric metric, String dimension, LocalDate day, long delta) {
+        batch.add(row(metric, dimension, StatisticsPeriod.DAY, day, delta));
+        batch.add(row(metric, dimension, StatisticsPeriod.MONTH, day.withDayOfMonth(1), delta));
+    }
+
+    private Object[] row(StatisticsMetric metric, String dimension, StatisticsPeriod period, LocalDate start, long delta) {
+        return new Object[]{metric.name(), dimension, period.name(), Date.valueOf(start), delta, delta};
+    }
+
+    private void upsert(List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        }
+    }
+}
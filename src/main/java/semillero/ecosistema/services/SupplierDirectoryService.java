@@ -0,0 +1,342 @@
+package semillero.ecosistema.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import semillero.ecosistema.dtos.category.CategoryResponseDTO;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.mappers.SupplierMapper;
+import semillero.ecosistema.repositories.SupplierRepository;
+import semillero.ecosistema.utils.LongKeyedMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Directorio de proveedores aceptados ya serializado en JSON, completo y dividido por categoría y por provincia.
+ * Cada proveedor se serializa una sola vez; los listados se arman concatenando esos fragmentos y se guardan también
+ * comprimidos con gzip. Cuando cambian proveedores solo se vuelven a leer y serializar esos proveedores, y solo se
+ * rearman los listados de sus categorías y provincias. Un cambio en los datos de referencia, que aparecen dentro de
+ * cada proveedor, descarta el directorio completo.
+ */
+@Slf4j
+@Service
+public class SupplierDirectoryService {
+
+    private static final DirectoryResource EMPTY_LIST = DirectoryResource.of(new byte[]{'[', ']'});
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SupplierMapper supplierMapper = SupplierMapper.getInstance();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Obtiene el listado de todos los proveedores aceptados y no eliminados, ordenados por ID.
+     *
+     * @return El listado serializado.
+     */
+    public DirectoryResource getAccepted() {
+        return current().accepted;
+    }
+
+    /**
+     * Obtiene el listado de proveedores aceptados de una categoría.
+     *
+     * @param categoryId El ID de la categoría.
+     * @return El listado serializado, o vacío si la categoría no tiene proveedores aceptados.
+     */
+    public Optional<DirectoryResource> getAcceptedByCategory(long categoryId) {
+        return Optional.ofNullable(current().byCategory.get(categoryId));
+    }
+
+    /**
+     * Obtiene el listado de proveedores aceptados de una provincia.
+     *
+     * @param provinceId El ID de la provincia.
+     * @return El listado serializado; un arreglo vacío si la provincia no tiene proveedores aceptados.
+     */
+    public DirectoryResource getAcceptedByProvince(long provinceId) {
+        DirectoryResource resource = current().byProvince.get(provinceId);
+        return resource != null ? resource : EMPTY_LIST;
+    }
+
+    /**
+     * Busca una categoría por nombre entre las categorías en caché, sin consultar la base de datos. Se prefiere
+     * la categoría con el nombre exacto; si no existe, la primera cuyo nombre contenga el texto, ignorando mayúsculas.
+     *
+     * @param name El nombre o parte del nombre de la categoría.
+     * @return El ID de la categoría, si existe.
+     */
+    public Optional<Long> findCategoryId(String name) {
+        if (name == null || name.isBlank()) return Optional.empty();
+
+        String query = name.trim().toLowerCase();
+        Long containing = null;
+
+        for (CategoryResponseDTO category : referenceDataCache.getCategories()) {
+            String categoryName = category.getName().toLowerCase();
+            if (categoryName.equals(query)) return Optional.of(category.getId());
+            if (containing == null && categoryName.contains(query)) {
+                containing = category.getId();
+            }
+        }
+
+        return Optional.ofNullable(containing);
+    }
+
+    /**
+     * Arma el directorio al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            current();
+        } catch (Exception e) {
+            log.warn("Error building supplier directory: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Actualiza los proveedores modificados una vez confirmada la transacción. Si el directorio todavía no se
+     * armó, no hace nada: la siguiente consulta lo arma completo.
+     *
+     * @param event El evento con los IDs de los proveedores modificados.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSupplierChanged(SupplierChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null || event.getSupplierIds().isEmpty()) return;
+
+        try {
+            snapshot = transactionTemplate.execute(status -> update(current, event.getSupplierIds()));
+        } catch (Exception e) {
+            // Se descarta el directorio para no seguir sirviendo proveedores desactualizados
+            log.warn("Error updating supplier directory, rebuilding on next request: {}", e.getMessage());
+            snapshot = null;
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+
+        // Las actualizaciones también toman este lock, así que no pueden perderse durante la carga
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = transactionTemplate.execute(status -> load());
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, Fragment> fragments = new TreeMap<>();
+        for (Supplier supplier : supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO)) {
+            fragments.put(supplier.getId(), toFragment(supplier));
+        }
+
+        Collection<Fragment> all = fragments.values();
+        return new Snapshot(
+                fragments,
+                join(all),
+                slices(all, Fragment::categoryId, null, null),
+                slices(all, Fragment::provinceId, null, null)
+        );
+    }
+
+    private Snapshot update(Snapshot current, List<Long> supplierIds) {
+        Map<Long, Fragment> fragments = new TreeMap<>(current.fragments);
+        Set<Long> categories = new HashSet<>();
+        Set<Long> provinces = new HashSet<>();
+
+        // Los proveedores que dejaron de estar aceptados se quitan; se rearman las porciones anteriores y las nuevas
+        for (Long id : supplierIds) {
+            Fragment removed = fragments.remove(id);
+            if (removed != null) {
+                categories.add(removed.categoryId);
+                provinces.add(removed.provinceId);
+            }
+        }
+        for (Supplier supplier : supplierRepository.findAllByIdIn(supplierIds)) {
+            if (supplier.getStatus() == SupplierStatus.ACEPTADO && !supplier.getDeleted()) {
+                Fragment fragment = toFragment(supplier);
+                fragments.put(supplier.getId(), fragment);
+                categories.add(fragment.categoryId);
+                provinces.add(fragment.provinceId);
+            }
+        }
+
+        Collection<Fragment> all = fragments.values();
+        return new Snapshot(
+                fragments,
+                join(all),
+                slices(all, Fragment::categoryId, categories, current.byCategory),
+                slices(all, Fragment::provinceId, provinces, current.byProvince)
+        );
+    }
+
+    /**
+     * Arma los listados por clave. Si se indican las claves modificadas, el resto de los listados se reutiliza.
+     */
+    private LongKeyedMap<DirectoryResource> slices(Collection<Fragment> fragments, ToLongFunction<Fragment> key,
+                                                   Set<Long> changed, LongKeyedMap<DirectoryResource> previous) {
+        Map<Long, List<Fragment>> grouped = fragments.stream()
+                .collect(Collectors.groupingBy(key::applyAsLong, TreeMap::new, Collectors.toList()));
+
+        List<Map.Entry<Long, DirectoryResource>> slices = new ArrayList<>();
+        grouped.forEach((id, list) -> {
+            DirectoryResource reused = changed != null && !changed.contains(id) ? previous.get(id) : null;
+            slices.add(Map.entry(id, reused != null ? reused : join(list)));
+        });
+
+        return LongKeyedMap.of(slices, Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Fragment toFragment(Supplier supplier) {
+        try {
+            return new Fragment(
+                    supplier.getCategory().getId(),
+                    supplier.getProvince().getId(),
+                    objectMapper.writeValueAsBytes(supplierMapper.toListDTO(supplier)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing supplier " + supplier.getId(), e);
+        }
+    }
+
+    private static DirectoryResource join(Collection<Fragment> fragments) {
+        int length = 2 + Math.max(0, fragments.size() - 1);
+        for (Fragment fragment : fragments) {
+            length += fragment.json.length;
+        }
+
+        byte[] body = new byte[length];
+        int position = 0;
+        body[position++] = '[';
+        for (Fragment fragment : fragments) {
+            if (position > 1) body[position++] = ',';
+            System.arraycopy(fragment.json, 0, body, position, fragment.json.length);
+            position += fragment.json.length;
+        }
+        body[position] = ']';
+
+        return DirectoryResource.of(body);
+    }
+
+    private record Fragment(long categoryId, long provinceId, byte[] json) {
+    }
+
+    private record Snapshot(
+            Map<Long, Fragment> fragments,
+            DirectoryResource accepted,
+            LongKeyedMap<DirectoryResource> byCategory,
+            LongKeyedMap<DirectoryResource> byProvince
+    ) {
+    }
+
+    /**
+     * Un listado ya serializado en JSON, con su versión comprimida con gzip si resulta más chica.
+     */
+    public record DirectoryResource(byte[] body, byte[] gzipBody, String etag) {
+
+        static DirectoryResource of(byte[] body) {
+            byte[] gzipped = gzip(body);
+            return new DirectoryResource(
+                    body,
+                    gzipped.length < body.length ? gzipped : null,
+                    DigestUtils.md5DigestAsHex(body));
+        }
+
+        /**
+         * Devuelve el JSON, comprimido si el cliente acepta gzip, o una respuesta 304 sin cuerpo si el cliente ya
+         * tiene esta versión (If-None-Match). Cada codificación tiene su propio ETag.
+         *
+         * @param request La solicitud en curso.
+         * @return La respuesta con el JSON y su ETag, o null si ya se respondió 304.
+         */
+        public ResponseEntity<byte[]> toResponse(WebRequest request) {
+            boolean compressed = gzipBody != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            String representationEtag = "\"" + etag + (compressed ? "-gzip" : "") + "\"";
+
+            if (request.checkNotModified(representationEtag)) {
+                return null;
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(representationEtag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (compressed) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(compressed ? gzipBody : body);
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) return false;
+
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                    return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+                }
+            }
+            return false;
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
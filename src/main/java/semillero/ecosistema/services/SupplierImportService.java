@@ -0,0 +1,748 @@
+package semillero.ecosistema.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.dtos.supplier.SupplierImportErrorDTO;
+import semillero.ecosistema.dtos.supplier.SupplierImportJobDTO;
+import semillero.ecosistema.dtos.supplier.SupplierImportRowDTO;
+import semillero.ecosistema.entities.Country;
+import semillero.ecosistema.entities.Province;
+import semillero.ecosistema.enumerations.ImageFormat;
+import semillero.ecosistema.enumerations.ImportFormat;
+import semillero.ecosistema.enumerations.ImportJobStatus;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.UserRepository;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
+import semillero.ecosistema.utils.ByteArrayMultipartFile;
+import semillero.ecosistema.utils.CsvReader;
+import semillero.ecosistema.utils.ImageUtil;
+import semillero.ecosistema.utils.TextNormalizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Importa proveedores desde archivos CSV o NDJSON. El archivo se lee fila por fila y se procesa en lotes: las
+ * imágenes de las filas de cada lote se descargan y suben en paralelo, y los proveedores del lote se insertan en una
+ * sola transacción con batches de JDBC. El país, la provincia y la categoría se resuelven por nombre en memoria.
+ * Las filas inválidas se informan en el resultado y no detienen la importación.
+ */
+@Slf4j
+@Service
+public class SupplierImportService {
+
+    private static final String CLOUDINARY_FOLDER = "proveedores";
+
+    private static final String INSERT_SUPPLIER_SQL =
+            "INSERT INTO supplier (name, description, short_description, phone, email, facebook, instagram, " +
+            "country_id, province_id, city, latitude, longitude, category_id, status, deleted, feedback, user_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO supplier_image (name, path, card_path, thumbnail_path, supplier_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final int MAX_IMAGES = 10;
+
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private static final int MAX_REDIRECTS = 5;
+
+    private static final Set<Integer> REDIRECT_STATUSES = Set.of(301, 302, 303, 307, 308);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private ImageReferenceService imageReferenceService;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ImageUtil imageUtil;
+
+    @Autowired
+    @Qualifier("supplierImportExecutor")
+    private TaskExecutor executor;
+
+    @Autowired
+    @Qualifier("supplierImportJobExecutor")
+    private TaskExecutor jobExecutor;
+
+    @Value("${supplier.import.batch-size:100}")
+    private int batchSize;
+
+    @Value("${supplier.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${supplier.import.max-jobs:20}")
+    private int maxJobs;
+
+    @Value("${supplier.import.max-image-bytes:5242880}")
+    private int maxImageBytes;
+
+    @Value("${supplier.import.download-timeout-seconds:20}")
+    private long downloadTimeoutSeconds;
+
+    @Value("${supplier.import.allow-private-hosts:false}")
+    private boolean allowPrivateHosts;
+
+    // Las redirecciones se siguen a mano para validar el destino de cada salto
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * Copia el archivo a un archivo temporal y programa su importación. El avance se consulta con getJob.
+     *
+     * @param file   El archivo a importar.
+     * @param format El formato del archivo, o null para deducirlo de su extensión.
+     * @param userId El ID del usuario al que se asignan los proveedores importados.
+     * @return El estado inicial de la importación.
+     * @throws IllegalArgumentException Si el usuario no existe o el formato no se reconoce.
+     * @throws TaskRejectedException    Si ya hay demasiadas importaciones en espera.
+     * @throws IOException              Si no se puede copiar el archivo.
+     */
+    public SupplierImportJobDTO start(MultipartFile file, String format, Long userId) throws IOException {
+        ImportFormat importFormat = resolveFormat(format, file.getOriginalFilename());
+        checkUser(userId);
+
+        Path temp = Files.createTempFile("supplier-import-", "." + importFormat.name().toLowerCase());
+        file.transferTo(temp);
+
+        ImportJob job = register();
+        try {
+            jobExecutor.execute(() -> {
+                try (Reader reader = Files.newBufferedReader(temp, StandardCharsets.UTF_8)) {
+                    process(job, reader, importFormat, userId);
+                } catch (IOException e) {
+                    job.abort("Error reading file", e);
+                } catch (RuntimeException e) {
+                    job.abort("Error importing file", e);
+                } finally {
+                    deleteQuietly(temp);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            unregister(job);
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        return job.toDTO();
+    }
+
+    /**
+     * Importa un archivo en el hilo actual.
+     *
+     * @param reader El contenido del archivo.
+     * @param format El formato del archivo.
+     * @param userId El ID del usuario al que se asignan los proveedores importados.
+     * @return El resultado de la importación.
+     * @throws IllegalArgumentException Si el usuario no existe.
+     */
+    public SupplierImportJobDTO importNow(Reader reader, ImportFormat format, Long userId) {
+        checkUser(userId);
+
+        ImportJob job = register();
+        try {
+            process(job, reader, format, userId);
+        } catch (IOException e) {
+            job.abort("Error reading file", e);
+        } catch (RuntimeException e) {
+            job.abort("Error importing file", e);
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * Obtiene el estado de una importación reciente.
+     *
+     * @param id El ID de la importación.
+     * @return El estado, o vacío si no existe o ya se descartó.
+     */
+    public Optional<SupplierImportJobDTO> getJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(ImportJob::toDTO);
+        }
+    }
+
+    private void process(ImportJob job, Reader reader, ImportFormat format, Long userId) throws IOException {
+        Lookups lookups = loadLookups();
+        RowSource source = format == ImportFormat.CSV
+                ? new CsvRowSource(new CsvReader(buffered(reader)))
+                : new NdjsonRowSource(buffered(reader));
+
+        List<PendingRow> batch = new ArrayList<>();
+        ParsedRow parsed;
+
+        while ((parsed = source.next()) != null) {
+            job.processed.incrementAndGet();
+
+            PendingRow pending = parsed.error() == null ? resolve(parsed, lookups, job) : null;
+            if (parsed.error() != null) {
+                job.fail(parsed.row(), parsed.error());
+            } else if (pending != null) {
+                batch.add(pending);
+            }
+
+            if (batch.size() >= batchSize) {
+                importBatch(job, batch, userId);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            importBatch(job, batch, userId);
+        }
+        job.finish();
+    }
+
+    /**
+     * Valida una fila y resuelve los IDs de su país, provincia y categoría.
+     */
+    private PendingRow resolve(ParsedRow parsed, Lookups lookups, ImportJob job) {
+        SupplierImportRowDTO dto = parsed.dto();
+        String error = validate(dto);
+
+        Long countryId = null, provinceId = null, categoryId = null;
+        if (error == null) {
+            countryId = lookups.countries.get(TextNormalizer.normalize(dto.getCountry()));
+            if (countryId == null) error = "Country not found: " + dto.getCountry();
+        }
+        if (error == null) {
+            provinceId = lookups.provinces.get(countryId + "|" + TextNormalizer.normalize(dto.getProvince()));
+            if (provinceId == null) error = "Province not found in country: " + dto.getProvince();
+        }
+        if (error == null) {
+            categoryId = lookups.categories.get(TextNormalizer.normalize(dto.getCategory()));
+            if (categoryId == null) error = "Category not found: " + dto.getCategory();
+        }
+
+        if (error != null) {
+            job.fail(parsed.row(), error);
+            return null;
+        }
+        return new PendingRow(parsed.row(), dto, countryId, provinceId, categoryId);
+    }
+
+    private String validate(SupplierImportRowDTO dto) {
+        String error = required("name", dto.getName(), MAX_TEXT_LENGTH);
+        if (error == null) error = required("description", dto.getDescription(), 300);
+        if (error == null) error = required("shortDescription", dto.getShortDescription(), 50);
+        if (error == null) error = required("phone", dto.getPhone(), MAX_TEXT_LENGTH);
+        if (error == null) error = required("email", dto.getEmail(), MAX_TEXT_LENGTH);
+        if (error == null) error = required("country", dto.getCountry(), null);
+        if (error == null) error = required("province", dto.getProvince(), null);
+        if (error == null) error = required("city", dto.getCity(), MAX_TEXT_LENGTH);
+        if (error == null) error = required("category", dto.getCategory(), null);
+        if (error == null) error = maxLength("facebook", dto.getFacebook(), MAX_TEXT_LENGTH);
+        if (error == null) error = maxLength("instagram", dto.getInstagram(), MAX_TEXT_LENGTH);
+        if (error != null) return error;
+
+        if (!EMAIL.matcher(dto.getEmail().trim()).matches()) return "Invalid email: " + dto.getEmail();
+        if (dto.getLatitude() != null && Math.abs(dto.getLatitude()) > 90) return "Latitude must be between -90 and 90";
+        if (dto.getLongitude() != null && Math.abs(dto.getLongitude()) > 180) return "Longitude must be between -180 and 180";
+        if (dto.getImages() == null || dto.getImages().isEmpty()) return "At least one image is required";
+        if (dto.getImages().size() > MAX_IMAGES) return "At most " + MAX_IMAGES + " images are allowed";
+        return null;
+    }
+
+    private String required(String field, String value, Integer maxLength) {
+        if (value == null || value.isBlank()) return field + " is required";
+        return maxLength == null ? null : maxLength(field, value, maxLength);
+    }
+
+    /**
+     * Compara el largo del valor ya recortado, que es el que se inserta, con el de la columna.
+     */
+    private String maxLength(String field, String value, int maxLength) {
+        if (value != null && value.trim().length() > maxLength) {
+            return field + " cannot be longer than " + maxLength + " characters";
+        }
+        return null;
+    }
+
+    /**
+     * Descarga y sube en paralelo las imágenes de las filas de un lote y luego inserta los proveedores en una única
+     * transacción. Si la transacción falla, todas las filas del lote se informan como fallidas.
+     */
+    private void importBatch(ImportJob job, List<PendingRow> rows, Long userId) {
+        List<CompletableFuture<List<UploadedImage>>> futures = new ArrayList<>();
+        for (PendingRow row : rows) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetchAndUpload(row.dto.getImages()), executor));
+        }
+
+        List<PendingRow> ready = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                rows.get(i).uploaded = futures.get(i).join();
+                ready.add(rows.get(i));
+            } catch (CompletionException e) {
+                job.fail(rows.get(i).row, "Error loading images: " + e.getCause().getMessage());
+            }
+        }
+        if (ready.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(ready, userId));
+            job.imported.addAndGet(ready.size());
+        } catch (RuntimeException e) {
+            log.warn("Error importing supplier batch: {}", e.getMessage());
+            for (PendingRow row : ready) {
+                imageUploadService.discard(row.uploaded, CLOUDINARY_FOLDER);
+                job.fail(row.row, "Error saving supplier: " + e.getMessage());
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows, Long userId) {
+        LocalDate today = LocalDate.now();
+        List<Long> ids = insertSuppliers(rows, userId, today);
+
+        List<Object[]> images = new ArrayList<>();
+        List<UploadedImage> uploaded = new ArrayList<>();
+        Map<Long, Long> amountByCategoryId = new HashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            for (UploadedImage image : row.uploaded) {
+                images.add(new Object[]{image.name(), image.path(), image.cardPath(), image.thumbnailPath(), ids.get(i)});
+                uploaded.add(image);
+            }
+            amountByCategoryId.merge(row.categoryId, 1L, Long::sum);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, images);
+        imageReferenceService.acquire(uploaded, CLOUDINARY_FOLDER);
+        statisticsRollupService.recordSuppliersCreated(today, SupplierStatus.REVISION_INICIAL, amountByCategoryId);
+        eventPublisher.publishEvent(new SupplierChangedEvent(ids));
+    }
+
+    /**
+     * Inserta los proveedores en un batch de JDBC y obtiene sus IDs generados. Hibernate no agrupa inserciones de
+     * entidades con IDs de tipo IDENTITY, por lo que se insertan directamente.
+     */
+    private List<Long> insertSuppliers(List<PendingRow> rows, Long userId, LocalDate today) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SUPPLIER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingRow row : rows) {
+                    SupplierImportRowDTO dto = row.dto;
+                    Object[] values = {
+                            dto.getName().trim(), dto.getDescription().trim(), dto.getShortDescription().trim(),
+                            dto.getPhone().trim(), dto.getEmail().trim(), blankToNull(dto.getFacebook()),
+                            blankToNull(dto.getInstagram()), row.countryId, row.provinceId, dto.getCity().trim(),
+                            dto.getLatitude(), dto.getLongitude(), row.categoryId, SupplierStatus.REVISION_INICIAL.name(),
+                            "N", "Revisión inicial", userId, Date.valueOf(today)
+                    };
+                    for (int i = 0; i < values.length; i++) {
+                        statement.setObject(i + 1, values[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> ids = new ArrayList<>();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != rows.size()) {
+                    throw new IllegalStateException("Expected " + rows.size() + " generated ids but got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Descarga las imágenes de una fila en paralelo y las sube con ImageUploadService, que las valida y deduplica.
+     */
+    private List<UploadedImage> fetchAndUpload(List<String> urls) {
+        List<CompletableFuture<HttpResponse<InputStream>>> downloads = new ArrayList<>();
+        try {
+            for (String url : urls) {
+                downloads.add(download(checkUrl(URI.create(url.trim())), 0));
+            }
+
+            List<MultipartFile> files = new ArrayList<>();
+            for (int i = 0; i < downloads.size(); i++) {
+                files.add(toFile(urls.get(i), downloads.get(i).join()));
+            }
+
+            return imageUploadService.uploadAll(files, CLOUDINARY_FOLDER);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CompletionException(e);
+        } finally {
+            // Si una imagen falla, las respuestas que no se leyeron se cierran para liberar sus conexiones,
+            // incluidas las que terminen de descargarse después
+            downloads.forEach(download -> download.thenAccept(response -> closeQuietly(response.body())));
+        }
+    }
+
+    /**
+     * Descarga una URL ya validada y sigue hasta MAX_REDIRECTS redirecciones, validando cada destino.
+     */
+    private CompletableFuture<HttpResponse<InputStream>> download(URI uri, int redirects) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(downloadTimeoutSeconds)).GET().build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()).thenCompose(response -> {
+            Optional<String> location = response.headers().firstValue("Location");
+            if (!REDIRECT_STATUSES.contains(response.statusCode()) || location.isEmpty()) {
+                return CompletableFuture.completedFuture(response);
+            }
+
+            closeQuietly(response.body());
+            if (redirects >= MAX_REDIRECTS) {
+                throw new CompletionException(new IOException("Too many redirects: " + uri));
+            }
+            return download(checkUrl(uri.resolve(location.get().trim())), redirects + 1);
+        });
+    }
+
+    /**
+     * Solo admite URLs http o https cuyo host resuelva a direcciones públicas, para que una importación no pueda
+     * usarse para leer servicios internos. Con supplier.import.allow-private-hosts se admiten todas las direcciones.
+     *
+     * @throws IllegalArgumentException Si la URL no es válida, el host no se resuelve o resuelve a una dirección privada.
+     */
+    private URI checkUrl(URI uri) {
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalArgumentException("Only http and https image URLs are allowed: " + uri);
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("Image URL has no host: " + uri);
+        }
+        if (allowPrivateHosts) return uri;
+
+        try {
+            for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+                if (isPrivate(address)) {
+                    throw new IllegalArgumentException("Image host is not allowed: " + uri.getHost());
+                }
+            }
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Unknown image host: " + uri.getHost());
+        }
+        return uri;
+    }
+
+    private static boolean isPrivate(InetAddress address) {
+        return address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                || address.isAnyLocalAddress() || address.isMulticastAddress()
+                // Direcciones IPv6 únicas locales (fc00::/7)
+                || address instanceof Inet6Address && (address.getAddress()[0] & 0xFE) == 0xFC;
+    }
+
+    private MultipartFile toFile(String url, HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Image download failed with status " + response.statusCode() + ": " + url);
+            }
+
+            byte[] content = body.readNBytes(maxImageBytes + 1);
+            if (content.length > maxImageBytes) {
+                throw new IOException("Image exceeds the allowed size: " + url);
+            }
+
+            // El nombre lleva la extensión del formato real, que es la que valida ImageUtil
+            ImageFormat format = imageUtil.detectFormat(Arrays.copyOf(content, Math.min(content.length, 8)))
+                    .orElseThrow(() -> new IOException("Unsupported image format: " + url));
+            return new ByteArrayMultipartFile("image." + format.getExtensions().get(0), format.getContentType(), content);
+        }
+    }
+
+    private Lookups loadLookups() {
+        Map<String, Long> countries = new HashMap<>();
+        for (Country country : referenceDataCache.getCountries()) {
+            countries.putIfAbsent(TextNormalizer.normalize(country.getName()), country.getId());
+        }
+
+        Map<String, Long> provinces = new HashMap<>();
+        for (Province province : referenceDataCache.getProvinces()) {
+            if (province.getCountry() == null) continue;
+            provinces.putIfAbsent(province.getCountry().getId() + "|" + TextNormalizer.normalize(province.getName()), province.getId());
+        }
+
+        Map<String, Long> categories = new HashMap<>();
+        referenceDataCache.getCategories()
+                .forEach(category -> categories.putIfAbsent(TextNormalizer.normalize(category.getName()), category.getId()));
+
+        return new Lookups(countries, provinces, categories);
+    }
+
+    private ImportFormat resolveFormat(String format, String fileName) {
+        return ImportFormat.resolve(format, fileName)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported import format"));
+    }
+
+    private void checkUser(Long userId) {
+        if (userId == null || !userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
+    }
+
+    private ImportJob register() {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), maxErrors);
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            Iterator<ImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > maxJobs && oldest.hasNext()) {
+                if (oldest.next().status != ImportJobStatus.RUNNING) oldest.remove();
+            }
+        }
+        return job;
+    }
+
+    private void unregister(ImportJob job) {
+        synchronized (jobs) {
+            jobs.remove(job.id);
+        }
+    }
+
+    private Map<String, Object> toRowValues(List<String> header, List<String> record) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < header.size() && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (value.isEmpty()) continue;
+
+            values.put(header.get(i), header.get(i).equals("images")
+                    ? Arrays.stream(value.split("\\|")).map(String::trim).filter(url -> !url.isEmpty()).toList()
+                    : value);
+        }
+        return values;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static BufferedReader buffered(Reader reader) {
+        return reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    private static String stripBom(String text) {
+        return text.startsWith("\uFEFF") ? text.substring(1) : text;
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            log.debug("Error closing image response: {}", e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error deleting import file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    /**
+     * Lee filas CSV cuyo encabezado usa los nombres de los campos de SupplierImportRowDTO.
+     */
+    private class CsvRowSource implements RowSource {
+
+        private final CsvReader reader;
+
+        private List<String> header;
+
+        CsvRowSource(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> first = reader.next();
+                if (first == null) return null;
+                header = first.stream().map(String::trim).map(SupplierImportService::stripBom).toList();
+            }
+
+            while (true) {
+                long row = reader.getLine();
+                List<String> record = reader.next();
+                if (record == null) return null;
+                if (record.size() == 1 && record.get(0).isBlank()) continue;
+
+                try {
+                    return new ParsedRow(row, objectMapper.convertValue(toRowValues(header, record), SupplierImportRowDTO.class), null);
+                } catch (IllegalArgumentException e) {
+                    return new ParsedRow(row, null, "Invalid row: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Lee un objeto JSON por línea; las líneas vacías se ignoran.
+     */
+    private class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+
+        private long line;
+
+        NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (line == 1) text = stripBom(text);
+                if (text.isBlank()) continue;
+
+                try {
+                    return new ParsedRow(line, objectMapper.readValue(text, SupplierImportRowDTO.class), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private record ParsedRow(long row, SupplierImportRowDTO dto, String error) {
+    }
+
+    private record Lookups(Map<String, Long> countries, Map<String, Long> provinces, Map<String, Long> categories) {
+    }
+
+    private static class PendingRow {
+        private final long row;
+        private final SupplierImportRowDTO dto;
+        private final Long countryId;
+        private final Long provinceId;
+        private final Long categoryId;
+        private List<UploadedImage> uploaded = List.of();
+
+        PendingRow(long row, SupplierImportRowDTO dto, Long countryId, Long provinceId, Long categoryId) {
+            this.row = row;
+            this.dto = dto;
+            this.countryId = countryId;
+            this.provinceId = provinceId;
+            this.categoryId = categoryId;
+        }
+    }
+
+    /**
+     * El avance de una importación. Se guardan solo los primeros maxErrors errores, pero se cuentan todos.
+     */
+    private static class ImportJob {
+        private final String id;
+        private final int maxErrors;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<SupplierImportErrorDTO> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile ImportJobStatus status = ImportJobStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, int maxErrors) {
+            this.id = id;
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long row, String error) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < maxErrors) errors.add(new SupplierImportErrorDTO(row, error));
+            }
+        }
+
+        void finish() {
+            finishedAt = LocalDateTime.now();
+            status = ImportJobStatus.COMPLETED;
+        }
+
+        /**
+         * Marca la importación como fallida. El error que la detuvo se guarda aunque ya se haya alcanzado maxErrors.
+         */
+        void abort(String message, Exception e) {
+            log.warn("{} for supplier import {}: {}", message, id, e.getMessage(), e);
+            errors.add(new SupplierImportErrorDTO(null, message + ": " + e.getMessage()));
+            finishedAt = LocalDateTime.now();
+            status = ImportJobStatus.FAILED;
+        }
+
+        SupplierImportJobDTO toDTO() {
+            List<SupplierImportErrorDTO> firstErrors;
+            synchronized (errors) {
+                firstErrors = List.copyOf(errors);
+            }
+            return new SupplierImportJobDTO(id, status, processed.get(), imported.get(), failed.get(),
+                    firstErrors, startedAt, finishedAt);
+        }
+    }
+}
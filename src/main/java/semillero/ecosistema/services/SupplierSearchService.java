@@ -0,0 +1,209 @@
+package semillero.ecosistema.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.es.SpanishAnalyzer;
+import org.apache.lucene.analysis.es.SpanishLightStemFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.SupplierRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class SupplierSearchService {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String SHORT_DESCRIPTION = "shortDescription";
+    private static final String DESCRIPTION = "description";
+    private static final String CITY = "city";
+    private static final String CATEGORY = "category";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            NAME, 4f,
+            CATEGORY, 3f,
+            SHORT_DESCRIPTION, 2f,
+            CITY, 2f,
+            DESCRIPTION, 1f
+    );
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Value("${supplier.search.index-path:}")
+    private String indexPath;
+
+    private final Analyzer analyzer = new SpanishFoldingAnalyzer();
+
+    private Directory directory;
+
+    private IndexWriter writer;
+
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Busca proveedores aceptados y no eliminados por nombre, descripciones, ciudad y categoría,
+     * ordenados por relevancia. La búsqueda ignora mayúsculas, acentos y variaciones de plural en español.
+     *
+     * @param query  El texto a buscar.
+     * @param offset La cantidad de resultados a omitir.
+     * @param limit  La cantidad máxima de resultados a devolver.
+     * @return Los IDs de los proveedores encontrados, en orden de relevancia, y el total de coincidencias.
+     * @throws IOException Si ocurre un error al leer el índice.
+     */
+    public SearchResult search(String query, int offset, int limit) throws IOException {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(query);
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int hits = (int) Math.max(1, Math.min((long) offset + limit, searcher.getIndexReader().maxDoc()));
+            TopDocs top = searcher.search(parsed, hits);
+            List<Long> ids = new ArrayList<>();
+
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                Document document = searcher.storedFields().document(top.scoreDocs[i].doc);
+                ids.add(Long.valueOf(document.get(ID)));
+            }
+
+            return new SearchResult(ids, top.totalHits.value);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Reconstruye el índice completo a partir de los proveedores aceptados en la base de datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            writer.deleteAll();
+            for (Supplier supplier : supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO)) {
+                writer.addDocument(toDocument(supplier));
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (Exception e) {
+            log.warn("Error rebuilding supplier search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sincroniza el índice con los proveedores modificados una vez confirmada la transacción.
+     * Los proveedores que dejan de estar aceptados o se eliminan se quitan del índice.
+     *
+     * @param event El evento con los IDs de los proveedores modificados.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupplierChanged(SupplierChangedEvent event) {
+        try {
+            index(supplierRepository.findAllById(event.getSupplierIds()), event.getSupplierIds());
+        } catch (Exception e) {
+            log.warn("Error updating supplier search index: {}", e.getMessage());
+        }
+    }
+
+    private void index(Collection<Supplier> suppliers, Collection<Long> ids) throws IOException {
+        for (Long id : ids) {
+            writer.deleteDocuments(new Term(ID, String.valueOf(id)));
+        }
+        for (Supplier supplier : suppliers) {
+            if (supplier.getStatus() == SupplierStatus.ACEPTADO && !supplier.getDeleted()) {
+                writer.addDocument(toDocument(supplier));
+            }
+        }
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private Document toDocument(Supplier supplier) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(supplier.getId()), Field.Store.YES));
+        document.add(new TextField(NAME, supplier.getName(), Field.Store.NO));
+        document.add(new TextField(SHORT_DESCRIPTION, supplier.getShortDescription(), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, supplier.getDescription(), Field.Store.NO));
+        document.add(new TextField(CITY, supplier.getCity(), Field.Store.NO));
+        document.add(new TextField(CATEGORY, supplier.getCategory().getName(), Field.Store.NO));
+        return document;
+    }
+
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    /**
+     * Analizador para textos en español: pasa a minúsculas, quita palabras vacías,
+     * elimina acentos (ASCII folding) y aplica un stemming liviano.
+     */
+    private static class SpanishFoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new StopFilter(stream, SpanishAnalyzer.getDefaultStopSet());
+            stream = new ASCIIFoldingFilter(stream);
+            stream = new SpanishLightStemFilter(stream);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -3,22 +3,33 @@ package semillero.ecosistema.services;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import semillero.ecosistema.dtos.category.CategoryStatisticsDTO;
+import semillero.ecosistema.dtos.page.SliceDTO;
 import semillero.ecosistema.dtos.supplier.*;
 import semillero.ecosistema.entities.*;
 import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
 import semillero.ecosistema.exceptions.GeocodingException;
 import semillero.ecosistema.exceptions.MaxSuppliersReachedException;
 import semillero.ecosistema.mappers.SupplierMapper;
 import semillero.ecosistema.repositories.*;
+import semillero.ecosistema.repositories.projections.SupplierDistanceProjection;
+import semillero.ecosistema.repositories.projections.SupplierModerationProjection;
+import semillero.ecosistema.repositories.projections.SupplierSummaryProjection;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
+import semillero.ecosistema.services.StatisticsRollupService.StatusChange;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
+import java.time.YearMonth;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,10 +42,7 @@ public class SupplierService {
     private SupplierImageRepository supplierImageRepository;
 
     @Autowired
-    private CountryRepository countryRepository;
-
-    @Autowired
-    private ProvinceRepository provinceRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @Autowired
     private CategoryRepository categoryRepository;
@@ -43,33 +51,82 @@ public class SupplierService {
     private UserRepository userRepository;
 
     @Autowired
-    private CloudinaryService cloudinaryService;
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private ImageReferenceService imageReferenceService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @Autowired
     private GeocodingService geocodingService;
 
     private final String CLOUDINARY_FOLDER = "proveedores";
 
+    private final int DEFAULT_PAGE_SIZE = 20;
+
+    private final int MAX_PAGE_SIZE = 100;
+
+    private final double DEFAULT_RADIUS_KM = 10;
+
+    private final double MAX_RADIUS_KM = 500;
+
+    private final double KM_PER_DEGREE = 111.32;
+
+    private final int MAX_MODERATION_BATCH_SIZE = 500;
+
+    private static final String MODERATE_SQL = "UPDATE supplier SET status = ?, feedback = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private SupplierSearchService supplierSearchService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private final SupplierMapper supplierMapper = SupplierMapper.getInstance();
 
+
     /**
-     * Obtiene proveedores clasificados por su estado.
+     * Obtiene proveedores clasificados por su estado, junto con el total de proveedores de cada estado.
+     * Se resuelve con una única consulta que trae solo el ID, el nombre y la categoría de cada proveedor.
      *
+     * @param limit Cantidad máxima de proveedores por estado, o null para obtenerlos todos.
      * @return Un DTO que contiene listas de proveedores clasificados por estado.
      * @throws Exception Si ocurre algún error durante el proceso de obtención.
      */
-    public SuppliersByStatusDTO findAll() throws Exception {
+    public SuppliersByStatusDTO findAll(Integer limit) throws Exception {
         try {
-            List<Supplier> newSuppliers = supplierRepository.findAllByStatus(SupplierStatus.REVISION_INICIAL);
-            List<Supplier> reviewSuppliers = supplierRepository.findAllByStatus(SupplierStatus.REQUIERE_CAMBIOS);
-            List<Supplier> approvedSuppliers = supplierRepository.findAllByStatus(SupplierStatus.ACEPTADO);
-            List<Supplier> deniedSuppliers = supplierRepository.findAllByStatus(SupplierStatus.DENEGADO);
+            int perStatusLimit = limit == null || limit <= 0 ? Integer.MAX_VALUE : limit;
+
+            Map<SupplierStatus, List<SupplierNameAndCategoryDTO>> byStatus = new EnumMap<>(SupplierStatus.class);
+            Map<SupplierStatus, Long> totals = new EnumMap<>(SupplierStatus.class);
+            for (SupplierStatus status : SupplierStatus.values()) {
+                byStatus.put(status, new ArrayList<>());
+                totals.put(status, 0L);
+            }
+
+            for (SupplierSummaryProjection row : supplierRepository.findAllSummariesLimitedByStatus(perStatusLimit)) {
+                SupplierStatus status = SupplierStatus.valueOf(row.getStatus());
+                byStatus.get(status).add(supplierMapper.toNameAndCategoryDTO(row));
+                totals.put(status, row.getTotal());
+            }
 
             SuppliersByStatusDTO suppliers = new SuppliersByStatusDTO();
-            suppliers.setNewSuppliers(supplierMapper.toNameAndCategoryDTOsList(newSuppliers));
-            suppliers.setReviewSuppliers(supplierMapper.toNameAndCategoryDTOsList(reviewSuppliers));
-            suppliers.setApprovedSuppliers(supplierMapper.toNameAndCategoryDTOsList(approvedSuppliers));
-            suppliers.setDeniedSuppliers(supplierMapper.toNameAndCategoryDTOsList(deniedSuppliers));
+            suppliers.setNewSuppliers(byStatus.get(SupplierStatus.REVISION_INICIAL));
+            suppliers.setReviewSuppliers(byStatus.get(SupplierStatus.REQUIERE_CAMBIOS));
+            suppliers.setApprovedSuppliers(byStatus.get(SupplierStatus.ACEPTADO));
+            suppliers.setDeniedSuppliers(byStatus.get(SupplierStatus.DENEGADO));
+            suppliers.setNewCount(totals.get(SupplierStatus.REVISION_INICIAL));
+            suppliers.setReviewCount(totals.get(SupplierStatus.REQUIERE_CAMBIOS));
+            suppliers.setApprovedCount(totals.get(SupplierStatus.ACEPTADO));
+            suppliers.setDeniedCount(totals.get(SupplierStatus.DENEGADO));
 
             return suppliers;
         } catch (Exception e) {
@@ -129,73 +186,155 @@ public class SupplierService {
      */
     public List<SupplierNameDTO> findAllAcceptedNames() throws Exception {
         try {
-            List<Supplier> suppliers = supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO);
-            return supplierMapper.toNameDTOsList(suppliers);
+            return supplierRepository.findAllNamesByStatusAndDeletedFalse(SupplierStatus.ACEPTADO).stream()
+                    .map(supplierMapper::toNameDTO)
+                    .collect(Collectors.toList());
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
 
     /**
-     * Obtiene una lista de proveedores que han sido aceptados y no han sido eliminados.
+     * Obtiene una lista de proveedores aceptados y no han sido eliminados que coinciden con el texto especificado,
+     * ordenados por relevancia. La búsqueda se resuelve en el índice de SupplierSearchService sobre el nombre,
+     * las descripciones, la ciudad y la categoría, ignorando mayúsculas y acentos.
      *
+     * @param name El texto a ser buscado.
      * @return Lista de proveedores.
-     * @throws Exception Si ocurre algún error durante el proceso de obtención.
+     * @throws IllegalArgumentException Si el nombre proporcionado es nulo o vacío.
+     * @throws EntityNotFoundException  Si no se encuentra ningún proveedor aceptado con el nombre especificado.
+     * @throws Exception                Si ocurre algún otro error durante la búsqueda.
      */
-    public List<SupplierDTO> findAllAccepted() throws Exception {
+    public List<SupplierDTO> findAllAcceptedByName(String name) throws Exception {
         try {
-            List<Supplier> suppliers = supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO);
-            return supplierMapper.toDTOsList(suppliers);
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("The query cannot be empty.");
+            }
+
+            SupplierSearchService.SearchResult result = supplierSearchService.search(name, 0, Integer.MAX_VALUE);
+
+            if (result.ids().isEmpty()) {
+                throw new EntityNotFoundException("Supplier not found with name: " + name);
+            }
+
+            return supplierMapper.toDTOsList(findAllAcceptedInOrder(result.ids()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (EntityNotFoundException e) {
+            throw new EntityNotFoundException(e.getMessage());
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
 
     /**
-     * Obtiene una lista de proveedores aceptados y no han sido eliminados que contienen el nombre especificado
-     * (ignorando mayúsculas y minúsculas).
+     * Obtiene la lista de proveedores aceptados en una ubicación específica basada en las coordenadas geográficas proporcionadas.
      *
-     * @param name El nombre a ser buscado.
+     * @param latitude  La latitud de las coordenadas.
+     * @param longitude La longitud de las coordenadas.
      * @return Lista de proveedores.
+     * @throws GeocodingException Si la obtención de información de ubicación resulta en un conjunto vacío.
+     * @throws Exception          Si ocurre un error durante el proceso de obtención.
+     */
+    public List<SupplierDTO> findAllAcceptedByLocation(Double latitude, Double longitude) throws Exception {
+        try {
+            Map<String, String> location = geocodingService.getLocation(latitude, longitude);
+            List<Supplier> suppliers;
+
+            if (!location.isEmpty()) {
+                String country = location.get("country");
+                String province = location.get("province");
+                String city = location.get("city");
+
+                suppliers = supplierRepository.findAllBestLocationMatches(
+                        SupplierStatus.ACEPTADO,
+                        country,
+                        province,
+                        city
+                );
+            } else {
+                throw new GeocodingException("Empty location");
+            }
+
+            return supplierMapper.toDTOsList(suppliers);
+        } catch (GeocodingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new Exception(e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene una página de proveedores aceptados y no eliminados, ordenados por ID.
+     * Si se indica un cursor se usa paginación por clave (id > cursor) y se ignora el número de página.
+     *
+     * @param page   El número de página (paginación por desplazamiento).
+     * @param size   La cantidad de proveedores por página.
+     * @param cursor El ID del último proveedor recibido (paginación por clave).
+     * @return Una porción de la lista de proveedores.
+     * @throws Exception Si ocurre algún error durante el proceso de obtención.
+     */
+    public SliceDTO<SupplierDTO> findAllAcceptedSlice(Integer page, Integer size, Long cursor) throws Exception {
+        try {
+            Pageable pageable = toPageable(page, size, cursor);
+
+            Slice<Supplier> suppliers = cursor == null
+                    ? supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO, pageable)
+                    : supplierRepository.findAllByStatusAndDeletedFalseAndIdGreaterThan(SupplierStatus.ACEPTADO, cursor, pageable);
+
+            return toSliceDTO(suppliers);
+        } catch (Exception e) {
+            throw new Exception(e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene una página de proveedores aceptados y no eliminados que coinciden con el texto especificado,
+     * ordenados por relevancia.
+     *
+     * @param name El texto a ser buscado.
+     * @param page El número de página.
+     * @param size La cantidad de proveedores por página.
+     * @return Una porción de la lista de proveedores.
      * @throws IllegalArgumentException Si el nombre proporcionado es nulo o vacío.
-     * @throws EntityNotFoundException  Si no se encuentra ningún proveedor aceptado con el nombre especificado.
      * @throws Exception                Si ocurre algún otro error durante la búsqueda.
      */
-    public List<SupplierDTO> findAllAcceptedByName(String name) throws Exception {
+    public SliceDTO<SupplierDTO> findAllAcceptedByNameSlice(String name, Integer page, Integer size) throws Exception {
         try {
             if (name == null || name.trim().isEmpty()) {
                 throw new IllegalArgumentException("The query cannot be empty.");
             }
 
-            List<Supplier> suppliers = supplierRepository
-                    .findAllByNameContainingIgnoreCaseAndStatusAndDeletedFalse(name, SupplierStatus.ACEPTADO);
-
-            if (suppliers.isEmpty()) {
-                throw new EntityNotFoundException("Supplier not found with name: " + name);
-            }
-
-            return supplierMapper.toDTOsList(suppliers);
+            Pageable pageable = toPageable(page, size, null);
+            SupplierSearchService.SearchResult result = supplierSearchService.search(
+                    name, (int) pageable.getOffset(), pageable.getPageSize());
+
+            return new SliceDTO<>(
+                    supplierMapper.toDTOsList(findAllAcceptedInOrder(result.ids())),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    pageable.getOffset() + result.ids().size() < result.total(),
+                    null
+            );
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(e.getMessage());
-        } catch (EntityNotFoundException e) {
-            throw new EntityNotFoundException(e.getMessage());
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
 
     /**
-     * Obtiene una lista de proveedores aceptados y no han sido eliminados que pertenecen a una categoría especifica
-     * (ignorando mayúsculas y minúsculas).
+     * Obtiene una página de proveedores aceptados y no eliminados que pertenecen a una categoría especifica.
      *
      * @param categoryName El nombre de la categoría a ser buscada.
-     * @return Lista de proveedores.
-     * @throws IllegalArgumentException Si el nombre de la categoría proporcionado es nulo o vacío.
-     * @throws EntityNotFoundException  Si no se encuentra la categoría con el nombre especificado
-     *                                  o no hay proveedores aceptados en esa categoría.
+     * @param page         El número de página (paginación por desplazamiento).
+     * @param size         La cantidad de proveedores por página.
+     * @param cursor       El ID del último proveedor recibido (paginación por clave).
+     * @return Una porción de la lista de proveedores.
+     * @throws IllegalArgumentException Si no se encuentra la categoría con el nombre especificado.
      * @throws Exception                Si ocurre algún otro error durante la búsqueda.
      */
-    public List<SupplierDTO> findAllAcceptedByCategory(String categoryName) throws Exception {
+    public SliceDTO<SupplierDTO> findAllAcceptedByCategorySlice(String categoryName, Integer page, Integer size, Long cursor) throws Exception {
         try {
             Category category = categoryRepository.findByNameContainingIgnoreCase(categoryName);
 
@@ -203,68 +342,56 @@ public class SupplierService {
                 throw new IllegalArgumentException("Category not found with name: " + categoryName);
             }
 
-            List<Supplier> suppliers = supplierRepository
-                    .findAllByCategoryAndStatusAndDeletedFalse(category, SupplierStatus.ACEPTADO);
+            Pageable pageable = toPageable(page, size, cursor);
 
-            if (suppliers.isEmpty()) {
-                throw new EntityNotFoundException("Supplier not found with category: " + categoryName);
-            }
+            Slice<Supplier> suppliers = cursor == null
+                    ? supplierRepository.findAllByCategoryAndStatusAndDeletedFalse(
+                            category, SupplierStatus.ACEPTADO, pageable)
+                    : supplierRepository.findAllByCategoryAndStatusAndDeletedFalseAndIdGreaterThan(
+                            category, SupplierStatus.ACEPTADO, cursor, pageable);
 
-            return supplierMapper.toDTOsList(suppliers);
+            return toSliceDTO(suppliers);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(e.getMessage());
-        } catch (EntityNotFoundException e) {
-            throw new EntityNotFoundException(e.getMessage());
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
 
     /**
-     * Obtiene la lista de proveedores aceptados en una ubicación específica basada en las coordenadas geográficas proporcionadas.
+     * Obtiene una página de proveedores aceptados en una ubicación específica. El nivel de coincidencia
+     * (ciudad, provincia o país) se decide en la misma consulta, para que todas las páginas pertenezcan al mismo nivel.
      *
      * @param latitude  La latitud de las coordenadas.
      * @param longitude La longitud de las coordenadas.
-     * @return Lista de proveedores.
+     * @param page      El número de página (paginación por desplazamiento).
+     * @param size      La cantidad de proveedores por página.
+     * @param cursor    El ID del último proveedor recibido (paginación por clave).
+     * @return Una porción de la lista de proveedores.
      * @throws GeocodingException Si la obtención de información de ubicación resulta en un conjunto vacío.
      * @throws Exception          Si ocurre un error durante el proceso de obtención.
      */
-    public List<SupplierDTO> findAllAcceptedByLocation(Double latitude, Double longitude) throws Exception {
+    public SliceDTO<SupplierDTO> findAllAcceptedByLocationSlice(
+            Double latitude, Double longitude, Integer page, Integer size, Long cursor) throws Exception {
         try {
             Map<String, String> location = geocodingService.getLocation(latitude, longitude);
-            List<Supplier> suppliers;
-
-            if (!location.isEmpty()) {
-                String country = location.get("country");
-                String province = location.get("province");
-                String city = location.get("city");
 
-                suppliers = supplierRepository.findAllByStatusAndDeletedFalseAndCountryNameAndProvinceNameAndCity(
-                        SupplierStatus.ACEPTADO,
-                        country,
-                        province,
-                        city
-                );
-
-                if (suppliers.isEmpty()) {
-                    suppliers = supplierRepository.findAllByStatusAndDeletedFalseAndCountryNameAndProvinceName(
-                            SupplierStatus.ACEPTADO,
-                            country,
-                            province
-                    );
-                }
-
-                if (suppliers.isEmpty()) {
-                    suppliers = supplierRepository.findAllByStatusAndDeletedFalseAndCountryName(
-                            SupplierStatus.ACEPTADO,
-                            country
-                    );
-                }
-            } else {
+            if (location.isEmpty()) {
                 throw new GeocodingException("Empty location");
             }
 
-            return supplierMapper.toDTOsList(suppliers);
+            String country = location.get("country");
+            String province = location.get("province");
+            String city = location.get("city");
+            Pageable pageable = toPageable(page, size, cursor);
+
+            Slice<Supplier> suppliers = cursor == null
+                    ? supplierRepository.findAllBestLocationMatches(
+                            SupplierStatus.ACEPTADO, country, province, city, pageable)
+                    : supplierRepository.findAllBestLocationMatchesAndIdGreaterThan(
+                            SupplierStatus.ACEPTADO, country, province, city, cursor, pageable);
+
+            return toSliceDTO(suppliers);
         } catch (GeocodingException e) {
             throw e;
         } catch (Exception e) {
@@ -272,6 +399,68 @@ public class SupplierService {
         }
     }
 
+    /**
+     * Obtiene una página de proveedores aceptados que están a menos de cierta distancia de unas coordenadas,
+     * ordenados del más cercano al más lejano. Solo se consideran los proveedores con coordenadas cargadas.
+     *
+     * @param latitude  La latitud de las coordenadas.
+     * @param longitude La longitud de las coordenadas.
+     * @param radiusKm  El radio de búsqueda en kilómetros, limitado a MAX_RADIUS_KM.
+     * @param page      El número de página.
+     * @param size      La cantidad de proveedores por página.
+     * @return Una porción de la lista de proveedores, con la distancia en kilómetros de cada uno.
+     * @throws IllegalArgumentException Si las coordenadas no son válidas.
+     * @throws Exception                Si ocurre un error durante el proceso de obtención.
+     */
+    public SliceDTO<SupplierDTO> findAllAcceptedNearbySlice(
+            Double latitude, Double longitude, Double radiusKm, Integer page, Integer size) throws Exception {
+        try {
+            if (latitude == null || longitude == null
+                    || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+                throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+            }
+
+            double radius = radiusKm == null || radiusKm <= 0 ? DEFAULT_RADIUS_KM : Math.min(radiusKm, MAX_RADIUS_KM);
+            Pageable pageable = toPageable(page, size, null);
+
+            // Rectángulo que contiene el círculo de búsqueda, para filtrar por índice antes de calcular distancias
+            double latDelta = radius / KM_PER_DEGREE;
+            double cosLat = Math.cos(Math.toRadians(latitude));
+            double lngDelta = cosLat < 0.01 ? 180 : Math.min(180, radius / (KM_PER_DEGREE * cosLat));
+
+            // Se pide un elemento extra para saber si hay una página siguiente
+            List<SupplierDistanceProjection> rows = supplierRepository.findNearby(
+                    SupplierStatus.ACEPTADO.name(),
+                    latitude,
+                    longitude,
+                    latitude - latDelta,
+                    latitude + latDelta,
+                    longitude - lngDelta,
+                    longitude + lngDelta,
+                    radius,
+                    pageable.getPageSize() + 1,
+                    (int) pageable.getOffset());
+
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            if (hasNext) {
+                rows = rows.subList(0, pageable.getPageSize());
+            }
+
+            Map<Long, Double> distances = rows.stream()
+                    .collect(Collectors.toMap(SupplierDistanceProjection::getId, SupplierDistanceProjection::getDistance));
+            List<SupplierDTO> content = supplierMapper.toDTOsList(findAllAcceptedInOrder(rows.stream()
+                    .map(SupplierDistanceProjection::getId)
+                    .collect(Collectors.toList())));
+            content.forEach(dto -> dto.setDistance(distances.get(dto.getId())));
+
+            return new SliceDTO<>(content, pageable.getPageNumber(), pageable.getPageSize(), hasNext, null);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (Exception e) {
+            throw new Exception(e.getMessage());
+        }
+    }
+
     /**
      * Obtiene un proveedor por su ID.
      *
@@ -301,23 +490,21 @@ public class SupplierService {
      * @throws Exception Si ocurre algún error durante el proceso de obtención.
      */
     public SupplierStatisticsDTO findStatistics() throws Exception {
-        try {
-            Integer approved = supplierRepository.countSuppliersByStatusInCurrentMonth(SupplierStatus.ACEPTADO);
-            Integer inReview = supplierRepository.countSuppliersByStatusInCurrentMonth(SupplierStatus.REVISION_INICIAL);
-            Integer denied = supplierRepository.countSuppliersByStatusInCurrentMonth(SupplierStatus.DENEGADO);
-            List<CategoryStatisticsDTO> categories = categoryRepository.findAll().stream()
-                    .map(category -> new CategoryStatisticsDTO(
-                            category.getName(),
-                            supplierRepository.countSuppliersByCategoryInCurrentMonth(category)))
-                    .collect(Collectors.toList());
-
-            SupplierStatisticsDTO statistics = new SupplierStatisticsDTO();
-            statistics.setApproved(approved);
-            statistics.setInReview(inReview);
-            statistics.setDenied(denied);
-            statistics.setCategories(categories);
+        return findStatistics(YearMonth.now());
+    }
 
-            return statistics;
+    /**
+     * Obtiene estadísticas de proveedores creados en un mes determinado, a partir de los contadores
+     * que mantiene StatisticsRollupService.
+     *
+     * @param month El mes a consultar.
+     * @return Un DTO que contiene estadísticas de proveedores, incluyendo la cantidad de proveedores aprobados,
+     * en revisión, denegados y estadísticas por categoría.
+     * @throws Exception Si ocurre algún error durante el proceso de obtención.
+     */
+    public SupplierStatisticsDTO findStatistics(YearMonth month) throws Exception {
+        try {
+            return statisticsRollupService.getSupplierStatistics(month);
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
@@ -333,11 +520,8 @@ public class SupplierService {
      * @throws IOException                  Si ocurre un error durante la manipulación de imágenes.
      * @throws Exception                    Si ocurre algún otro error durante el proceso de guardado.
      */
-    @Transactional
     public SupplierDTO save(SupplierRequestDTO dto, List<MultipartFile> images) throws Exception {
         try {
-            Supplier supplier = supplierMapper.toEntity(dto);
-
             // Validar que el Usuario no tenga más de 3 Proveedores
             User user = userRepository.findById(dto.getUserId())
                     .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + dto.getUserId()));
@@ -347,29 +531,44 @@ public class SupplierService {
             }
 
             // Establecer relaciones
-            Country country = countryRepository.findById(dto.getCountryId())
+            Country country = referenceDataCache.getCountry(dto.getCountryId())
                     .orElseThrow(() -> new IllegalArgumentException("Country not found with id: " + dto.getCountryId()));
-            Province province = provinceRepository.findById(dto.getProvinceId())
+            Province province = referenceDataCache.getProvince(dto.getProvinceId())
                     .orElseThrow(() -> new IllegalArgumentException("Province not found with id: " + dto.getProvinceId()));
-            Category category = categoryRepository.findById(dto.getCategoryId())
+            Category category = referenceDataCache.getCategory(dto.getCategoryId())
                     .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + dto.getCategoryId()));
 
-            // Asignar relaciones a la entidad Supplier
-            supplier.setCountry(country);
-            supplier.setProvince(province);
-            supplier.setCategory(category);
-            supplier.setUser(user);
-
-            // Guardar imágenes en Cloudinary. Establecer relacion con SupplierImage
-            List<SupplierImage> supplierImages = uploadSupplierImages(images, supplier);
-            supplier.setImages(supplierImages);
-
-            // Establecer valores por defecto
-            supplier.setDeleted(false);
-            supplier.setStatus(SupplierStatus.REVISION_INICIAL);
-            supplier.setFeedback("Revisión inicial");
-
-            return supplierMapper.toDTO(supplierRepository.save(supplier));
+            // Subir imágenes a Cloudinary en paralelo, antes de abrir la transacción
+            List<UploadedImage> uploaded = imageUploadService.uploadAll(images, CLOUDINARY_FOLDER);
+
+            try {
+                return transactionTemplate.execute(status -> {
+                    Supplier supplier = supplierMapper.toEntity(dto);
+
+                    // Asignar relaciones a la entidad Supplier
+                    supplier.setCountry(country);
+                    supplier.setProvince(province);
+                    supplier.setCategory(category);
+                    supplier.setUser(user);
+                    supplier.setImages(toSupplierImages(uploaded, supplier));
+                    imageReferenceService.acquire(uploaded, CLOUDINARY_FOLDER);
+
+                    // Establecer valores por defecto
+                    supplier.setDeleted(false);
+                    supplier.setStatus(SupplierStatus.REVISION_INICIAL);
+                    supplier.setFeedback("Revisión inicial");
+
+                    Supplier saved = supplierRepository.save(supplier);
+                    statisticsRollupService.recordSupplierCreated(saved.getCreatedAt(), saved.getStatus(), category.getId());
+                    eventPublisher.publishEvent(new SupplierChangedEvent(List.of(saved.getId())));
+
+                    return supplierMapper.toDTO(saved);
+                });
+            } catch (RuntimeException e) {
+                // Las imágenes subidas no quedaron asociadas a ningún proveedor
+                imageUploadService.discard(uploaded, CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (MaxSuppliersReachedException e) {
             throw new MaxSuppliersReachedException(e.getMessage());
         } catch (IOException e) {
@@ -390,51 +589,76 @@ public class SupplierService {
      * @throws IOException             Si ocurre un error durante la manipulación de imágenes.
      * @throws Exception               Si ocurre algún otro error durante el proceso de actualización.
      */
-    @Transactional
     public SupplierDTO update(Long id, SupplierRequestDTO dto, List<MultipartFile> images) throws Exception {
         try {
-            Supplier supplier = supplierRepository.findById(id)
-                    .orElseThrow(() -> new EntityNotFoundException("Supplier not found with id: " + id));
-
-            // Actualizar estado
-            supplier.setStatus(SupplierStatus.REVISION_INICIAL);
-            supplier.setFeedback("Revisión inicial");
-
-            // Actualizar los campos del proveedor con la información proporcionada en el DTO
-            supplier.setName(dto.getName());
-            supplier.setDescription(dto.getDescription());
-            supplier.setShortDescription(dto.getShortDescription());
-            supplier.setPhone(dto.getPhone());
-            supplier.setEmail(dto.getEmail());
-            supplier.setFacebook(dto.getFacebook());
-            supplier.setInstagram(dto.getInstagram());
-            supplier.setCity(dto.getCity());
-
-            // Establecer relaciones
-            Country country = countryRepository.findById(dto.getCountryId())
-                    .orElseThrow(() -> new IllegalArgumentException("Country not found with id: " + dto.getCountryId()));
-            Province province = provinceRepository.findById(dto.getProvinceId())
-                    .orElseThrow(() -> new IllegalArgumentException("Province not found with id: " + dto.getProvinceId()));
-            Category category = categoryRepository.findById(dto.getCategoryId())
-                    .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + dto.getCategoryId()));
-            User user = userRepository.findById(dto.getUserId())
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + dto.getUserId()));
-
-            // Actualizar relaciones a la entidad Supplier
-            supplier.setCountry(country);
-            supplier.setProvince(province);
-            supplier.setCategory(category);
-            supplier.setUser(user);
-
-            // Eliminar imágenes anteriores y cargar nuevas en Cloudinary. Actualizar relacion con SupplierImage
-            for (SupplierImage oldImage : supplier.getImages()) {
-                supplierImageRepository.delete(oldImage);
-                cloudinaryService.deleteImage(oldImage.getName(), CLOUDINARY_FOLDER);
+            if (!supplierRepository.existsById(id)) {
+                throw new EntityNotFoundException("Supplier not found with id: " + id);
             }
-            List<SupplierImage> supplierImages = uploadSupplierImages(images, supplier);
-            supplier.setImages(supplierImages);
 
-            return supplierMapper.toDTO(supplierRepository.save(supplier));
+            // Subir imágenes nuevas a Cloudinary en paralelo, antes de abrir la transacción
+            List<UploadedImage> uploaded = imageUploadService.uploadAll(images, CLOUDINARY_FOLDER);
+            try {
+                return transactionTemplate.execute(status -> {
+                    Supplier supplier = supplierRepository.findById(id)
+                            .orElseThrow(() -> new EntityNotFoundException("Supplier not found with id: " + id));
+                    SupplierStatus oldStatus = supplier.getStatus();
+                    Long oldCategoryId = supplier.getCategory().getId();
+
+                    // Actualizar estado
+                    supplier.setStatus(SupplierStatus.REVISION_INICIAL);
+                    supplier.setFeedback("Revisión inicial");
+
+                    // Actualizar los campos del proveedor con la información proporcionada en el DTO
+                    supplier.setName(dto.getName());
+                    supplier.setDescription(dto.getDescription());
+                    supplier.setShortDescription(dto.getShortDescription());
+                    supplier.setPhone(dto.getPhone());
+                    supplier.setEmail(dto.getEmail());
+                    supplier.setFacebook(dto.getFacebook());
+                    supplier.setInstagram(dto.getInstagram());
+                    supplier.setCity(dto.getCity());
+                    supplier.setLatitude(dto.getLatitude());
+                    supplier.setLongitude(dto.getLongitude());
+
+                    // Establecer relaciones
+                    Country country = referenceDataCache.getCountry(dto.getCountryId())
+                            .orElseThrow(() -> new IllegalArgumentException("Country not found with id: " + dto.getCountryId()));
+                    Province province = referenceDataCache.getProvince(dto.getProvinceId())
+                            .orElseThrow(() -> new IllegalArgumentException("Province not found with id: " + dto.getProvinceId()));
+                    Category category = referenceDataCache.getCategory(dto.getCategoryId())
+                            .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + dto.getCategoryId()));
+                    User user = userRepository.findById(dto.getUserId())
+                            .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + dto.getUserId()));
+
+                    // Actualizar relaciones a la entidad Supplier
+                    supplier.setCountry(country);
+                    supplier.setProvince(province);
+                    supplier.setCategory(category);
+                    supplier.setUser(user);
+
+                    // Reemplazar imágenes anteriores. Las referencias nuevas se suman antes de liberar las anteriores,
+                    // así las imágenes que se mantienen no se eliminan ni se vuelven a subir
+                    List<String> oldImageNames = new ArrayList<>();
+                    for (SupplierImage oldImage : supplier.getImages()) {
+                        supplierImageRepository.delete(oldImage);
+                        oldImageNames.add(oldImage.getName());
+                    }
+                    imageReferenceService.acquire(uploaded, CLOUDINARY_FOLDER);
+                    imageReferenceService.release(oldImageNames, CLOUDINARY_FOLDER);
+                    supplier.setImages(toSupplierImages(uploaded, supplier));
+
+                    Supplier saved = supplierRepository.save(supplier);
+                    statisticsRollupService.recordSupplierChanged(
+                            saved.getCreatedAt(), oldStatus, oldCategoryId, saved.getStatus(), category.getId());
+                    eventPublisher.publishEvent(new SupplierChangedEvent(List.of(saved.getId())));
+
+                    return supplierMapper.toDTO(saved);
+                });
+            } catch (RuntimeException e) {
+                // Las imágenes nuevas no quedaron asociadas; las anteriores se conservan
+                imageUploadService.discard(uploaded, CLOUDINARY_FOLDER);
+                throw e;
+            }
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(e.getMessage());
         } catch (IOException e) {
@@ -445,23 +669,21 @@ public class SupplierService {
     }
 
     /**
-     * Carga las imágenes del proveedor en Cloudinary y crea entidades SupplierImage asociadas.
+     * Crea las entidades SupplierImage asociadas a imágenes ya subidas a Cloudinary.
      *
-     * @param images   Lista de archivos de imágenes a ser cargados.
+     * @param uploaded Las imágenes subidas.
      * @param supplier El proveedor al que se asociarán las imágenes.
      * @return Lista de entidades SupplierImage creadas.
-     * @throws IOException Si ocurre un error durante la manipulación de imágenes.
      */
-    private List<SupplierImage> uploadSupplierImages(List<MultipartFile> images, Supplier supplier) throws IOException {
+    private List<SupplierImage> toSupplierImages(List<UploadedImage> uploaded, Supplier supplier) {
         List<SupplierImage> supplierImages = new ArrayList<>();
 
-        for (MultipartFile image : images) {
-            String name = UUID.randomUUID().toString();
-            String path = cloudinaryService.uploadImage(image, name, CLOUDINARY_FOLDER);
-
+        for (UploadedImage image : uploaded) {
             SupplierImage supplierImage = new SupplierImage();
-            supplierImage.setName(name);
-            supplierImage.setPath(path);
+            supplierImage.setName(image.name());
+            supplierImage.setPath(image.path());
+            supplierImage.setCardPath(image.cardPath());
+            supplierImage.setThumbnailPath(image.thumbnailPath());
             supplierImage.setSupplier(supplier);
 
             supplierImages.add(supplierImage);
@@ -470,6 +692,60 @@ public class SupplierService {
         return supplierImages;
     }
 
+    /**
+     * Construye la solicitud de página ordenada por ID. En modo cursor siempre se pide la primera página,
+     * ya que el filtro id > cursor reemplaza al desplazamiento.
+     *
+     * @param page   El número de página solicitado.
+     * @param size   La cantidad de elementos solicitada, limitada a MAX_PAGE_SIZE.
+     * @param cursor El ID del último elemento recibido, o null para paginación por desplazamiento.
+     * @return La solicitud de página.
+     */
+    private Pageable toPageable(Integer page, Integer size, Long cursor) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = cursor != null || page == null || page < 0 ? 0 : page;
+
+        return PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    /**
+     * Obtiene los proveedores aceptados y no eliminados con los IDs indicados respetando el orden de la lista recibida.
+     * El estado se vuelve a comprobar porque el índice de búsqueda puede estar desactualizado.
+     *
+     * @param ids Los IDs de los proveedores, en el orden deseado.
+     * @return Lista de proveedores aceptados en el mismo orden que los IDs.
+     */
+    private List<Supplier> findAllAcceptedInOrder(List<Long> ids) {
+        Map<Long, Supplier> byId = supplierRepository.findAllByIdInAndStatusAndDeletedFalse(ids, SupplierStatus.ACEPTADO).stream()
+                .collect(Collectors.toMap(Supplier::getId, supplier -> supplier));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte una porción de entidades Supplier en su DTO, calculando el cursor de la siguiente página.
+     *
+     * @param suppliers La porción de proveedores obtenida del repositorio.
+     * @return La porción de DTOs de proveedores.
+     */
+    private SliceDTO<SupplierDTO> toSliceDTO(Slice<Supplier> suppliers) {
+        List<Supplier> content = suppliers.getContent();
+        Long nextCursor = suppliers.hasNext() && !content.isEmpty()
+                ? content.get(content.size() - 1).getId()
+                : null;
+
+        return new SliceDTO<>(
+                supplierMapper.toDTOsList(content),
+                suppliers.getNumber(),
+                suppliers.getSize(),
+                suppliers.hasNext(),
+                nextCursor
+        );
+    }
+
     /**
      * Proporciona comentarios a un proveedor y actualiza su estado.
      *
@@ -479,20 +755,91 @@ public class SupplierService {
      * @throws EntityNotFoundException Si no se encuentra el proveedor con el ID especificado.
      * @throws Exception               Si ocurre un error durante la actualización del proveedor.
      */
-    @Transactional
+    @Transactional(rollbackOn = Exception.class)
     public SupplierDTO provideFeedback(Long id, SupplierFeedbackDTO dto) throws Exception {
         try {
-            Supplier supplier = supplierRepository.findById(id)
+            Supplier supplier = supplierRepository.findByIdForUpdate(id)
                     .orElseThrow(() -> new EntityNotFoundException("Supplier not found with id: " + id));
 
+            SupplierStatus oldStatus = supplier.getStatus();
             supplier.setStatus(dto.getStatus());
             supplier.setFeedback(dto.getFeedback());
 
-            return supplierMapper.toDTO(supplierRepository.save(supplier));
+            Supplier saved = supplierRepository.save(supplier);
+            Long categoryId = saved.getCategory().getId();
+            statisticsRollupService.recordSupplierChanged(
+                    saved.getCreatedAt(), oldStatus, categoryId, saved.getStatus(), categoryId);
+            eventPublisher.publishEvent(new SupplierChangedEvent(List.of(saved.getId())));
+
+            return supplierMapper.toDTO(saved);
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException(e.getMessage());
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
+
+    /**
+     * Proporciona comentarios y actualiza el estado de varios proveedores en una única transacción. Los estados
+     * actuales se leen con una sola consulta y las actualizaciones se envían en un batch de JDBC. Los elementos
+     * inválidos, repetidos o de proveedores inexistentes se informan en el resultado sin afectar al resto.
+     *
+     * @param dtos Los comentarios y estados a aplicar, uno por proveedor.
+     * @return El resultado de cada elemento, en el mismo orden recibido.
+     * @throws IllegalArgumentException Si la lista está vacía o supera MAX_MODERATION_BATCH_SIZE elementos.
+     * @throws Exception                Si ocurre un error durante la actualización; no se aplica ningún cambio.
+     */
+    @Transactional(rollbackOn = Exception.class)
+    public List<SupplierModerationResultDTO> provideFeedback(List<SupplierFeedbackDTO> dtos) throws Exception {
+        try {
+            if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_MODERATION_BATCH_SIZE) {
+                throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_MODERATION_BATCH_SIZE);
+            }
+
+            Set<Long> ids = new HashSet<>();
+            Set<Long> repeated = new HashSet<>();
+            for (SupplierFeedbackDTO dto : dtos) {
+                if (dto.getId() != null && !ids.add(dto.getId())) {
+                    repeated.add(dto.getId());
+                }
+            }
+
+            Map<Long, SupplierModerationProjection> states = supplierRepository.findAllModerationStatesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(SupplierModerationProjection::getId, state -> state));
+
+            List<SupplierModerationResultDTO> results = new ArrayList<>();
+            List<Object[]> batch = new ArrayList<>();
+            List<StatusChange> changes = new ArrayList<>();
+            List<Long> updatedIds = new ArrayList<>();
+
+            for (SupplierFeedbackDTO dto : dtos) {
+                SupplierModerationProjection state = states.get(dto.getId());
+
+                if (dto.getId() == null || dto.getStatus() == null) {
+                    results.add(new SupplierModerationResultDTO(dto.getId(), dto.getStatus(), false, "Id and status are required"));
+                } else if (repeated.contains(dto.getId())) {
+                    results.add(new SupplierModerationResultDTO(dto.getId(), dto.getStatus(), false, "Supplier repeated in batch"));
+                } else if (state == null) {
+                    results.add(new SupplierModerationResultDTO(dto.getId(), dto.getStatus(), false, "Supplier not found"));
+                } else {
+                    batch.add(new Object[]{dto.getStatus().name(), dto.getFeedback(), dto.getId()});
+                    changes.add(new StatusChange(state.getCreatedAt(), state.getStatus(), dto.getStatus()));
+                    updatedIds.add(dto.getId());
+                    results.add(new SupplierModerationResultDTO(dto.getId(), dto.getStatus(), true, null));
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(MODERATE_SQL, batch);
+                statisticsRollupService.recordSupplierStatusChanges(changes);
+                eventPublisher.publishEvent(new SupplierChangedEvent(updatedIds));
+            }
+
+            return results;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        } catch (Exception e) {
+            throw new Exception(e.getMessage());
+        }
+    }
 }
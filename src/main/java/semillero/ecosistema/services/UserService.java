@@ -2,15 +2,18 @@ package semillero.ecosistema.services;
 
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import semillero.ecosistema.entities.User;
 import semillero.ecosistema.enumerations.UserRole;
+import semillero.ecosistema.events.UserChangedEvent;
 import semillero.ecosistema.repositories.UserRepository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Optional;
 
 @Service
@@ -19,8 +22,15 @@ public class UserService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Carga los detalles de un usuario por su nombre de usuario (en este caso, el correo electrónico).
+     * Los usuarios desactivados se devuelven deshabilitados.
      * @param username El nombre de usuario (correo electrónico) del usuario.
      * @return UserDetails que representa los detalles del usuario.
      * @throws UsernameNotFoundException Si no se encuentra un usuario con el correo electrónico proporcionado.
@@ -33,6 +43,10 @@ public class UserService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
                 user.getUsername(),
                 "",
+                !user.isDeleted(),
+                true,
+                true,
+                true,
                 user.getAuthorities()
         );
     }
@@ -43,14 +57,17 @@ public class UserService implements UserDetailsService {
      * @return El usuario guardado en la base de datos
      * @throws Exception Si ocurre algún error durante el proceso de guardado
      */
-    @Transactional
+    @Transactional(rollbackOn = Exception.class)
     public User save(User entity) throws Exception {
         try {
             entity.setDeleted(false);
             entity.setRole(UserRole.USUARIO_REGULAR);
             entity.setCreatedAt(LocalDate.now());
 
-            return userRepository.save(entity);
+            User saved = userRepository.save(entity);
+            statisticsRollupService.recordUserCreated(saved.getCreatedAt());
+
+            return saved;
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
@@ -75,7 +92,10 @@ public class UserService implements UserDetailsService {
             user.setDeleted(entity.isDeleted());
             user.setPhone(entity.getPhone());
 
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(saved.getId()));
+
+            return saved;
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
@@ -90,7 +110,7 @@ public class UserService implements UserDetailsService {
      * @return El usuario guardado o actualizado en la base de datos
      * @throws Exception Si ocurre algún error durante el proceso de guardado o actualización
      */
-    @Transactional
+    @Transactional(rollbackOn = Exception.class)
     public User saveOrUpdate(String email, String name, String lastName) throws Exception {
         try {
             Optional<User> optional = userRepository.findByEmail(email);
@@ -111,7 +131,12 @@ public class UserService implements UserDetailsService {
             user.setLastName(lastName);
             user.setEmail(email);
 
-            return userRepository.save(user);
+            User saved = userRepository.save(user);
+            if (optional.isEmpty()) {
+                statisticsRollupService.recordUserCreated(saved.getCreatedAt());
+            }
+
+            return saved;
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
@@ -131,14 +156,21 @@ public class UserService implements UserDetailsService {
             user.setDeleted(true);
 
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
     }
 
-    public Integer getCountUsersCreatedThisMonth() throws Exception {
+    /**
+     * Método para obtener la cantidad de usuarios registrados en un mes.
+     * @param month El mes a consultar
+     * @return La cantidad de usuarios registrados en el mes
+     * @throws Exception Si ocurre algún error durante el proceso de obtención
+     */
+    public Integer getCountUsersCreatedIn(YearMonth month) throws Exception {
         try {
-            return userRepository.countUsersCreatedThisMonth();
+            return statisticsRollupService.getUsersCreated(month);
         } catch (Exception e) {
             throw new Exception(e.getMessage());
         }
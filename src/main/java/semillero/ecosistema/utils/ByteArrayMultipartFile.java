@@ -0,0 +1,68 @@
+package semillero.ecosistema.utils;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Archivo en memoria, para procesar con los mismos servicios que las imágenes recibidas en una solicitud
+ * las que se obtienen por otros medios (por ejemplo, descargadas de una URL).
+ */
+public class ByteArrayMultipartFile implements MultipartFile {
+
+    private final String name;
+
+    private final String contentType;
+
+    private final byte[] content;
+
+    public ByteArrayMultipartFile(String name, String contentType, byte[] content) {
+        this.name = name;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return name;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return content.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return content;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), content);
+    }
+}
@@ -0,0 +1,35 @@
+package semillero.ecosistema.utils;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+
+/**
+ * Verificador de tokens de Google que valida la firma con las claves de CachingGooglePublicKeysManager, para
+ * que los inicios de sesión sigan funcionando con las últimas claves si el endpoint de certificados falla.
+ */
+public class CachingGoogleIdTokenVerifier extends GoogleIdTokenVerifier {
+
+    private final CachingGooglePublicKeysManager publicKeysManager;
+
+    public CachingGoogleIdTokenVerifier(CachingGooglePublicKeysManager publicKeysManager) {
+        super(new GoogleIdTokenVerifier.Builder(publicKeysManager.getSource()));
+        this.publicKeysManager = publicKeysManager;
+    }
+
+    @Override
+    public boolean verify(GoogleIdToken idToken) throws GeneralSecurityException, IOException {
+        if (!verifyPayload(idToken)) {
+            return false;
+        }
+        for (PublicKey publicKey : publicKeysManager.getPublicKeys()) {
+            if (idToken.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
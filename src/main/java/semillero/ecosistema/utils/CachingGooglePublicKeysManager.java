@@ -0,0 +1,117 @@
+package semillero.ecosistema.utils;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Administrador de las claves públicas de Google que sigue usando las últimas claves obtenidas cuando el endpoint
+ * de certificados falla, en lugar de rechazar los inicios de sesión. Tras un fallo no se vuelve a intentar hasta
+ * que pase el tiempo de reintento, para que las solicitudes no esperen a un endpoint caído.
+ * El transporte HTTP y la URL de los certificados se reciben por parámetro, lo que permite usar un origen local en pruebas.
+ * <p>
+ * Las claves se descargan con un GooglePublicKeysManager, pero se guardan en una copia propia: ese administrador
+ * descarta sus claves antes de descargar las nuevas, así que tras un fallo queda vacío. Las descargas se hacen
+ * con un único lock propio y las consultas leen la copia sin bloquear.
+ */
+@Slf4j
+public class CachingGooglePublicKeysManager {
+
+    // Mismo margen que usa GooglePublicKeysManager para renovar las claves antes de que venzan
+    private static final long REFRESH_SKEW_MILLIS = 300_000;
+
+    private final GooglePublicKeysManager source;
+
+    private final long retryMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Keys keys;
+
+    private volatile long nextAttemptAt;
+
+    public CachingGooglePublicKeysManager(HttpTransport transport, JsonFactory jsonFactory, String certsUrl, long retryMillis) {
+        this.source = new GooglePublicKeysManager.Builder(transport, jsonFactory).setPublicCertsEncodedUrl(certsUrl).build();
+        this.retryMillis = retryMillis;
+    }
+
+    /**
+     * Obtiene las claves públicas, descargándolas si todavía no hay o están por vencer.
+     *
+     * @return Las claves vigentes, o las últimas obtenidas si el endpoint no responde.
+     * @throws GeneralSecurityException Si las claves no pueden leerse y no hay claves anteriores.
+     * @throws IOException              Si la descarga falla y no hay claves anteriores.
+     */
+    public List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException {
+        Keys current = keys;
+        if (current == null || source.getClock().currentTimeMillis() + REFRESH_SKEW_MILLIS > current.expiresAt()) {
+            refresh();
+            current = keys;
+        }
+        return current.publicKeys();
+    }
+
+    /**
+     * Obtiene el vencimiento de las claves en caché.
+     *
+     * @return El vencimiento en milisegundos, o 0 si no hay claves.
+     */
+    public long getExpirationTimeMilliseconds() {
+        Keys current = keys;
+        return current == null ? 0 : current.expiresAt();
+    }
+
+    /**
+     * Descarga las claves públicas, que quedan en caché el tiempo indicado por el encabezado Cache-Control.
+     * Si ya hay claves y la descarga falla, se conservan las anteriores.
+     *
+     * @throws GeneralSecurityException Si las claves no pueden leerse y no hay claves anteriores.
+     * @throws IOException              Si la descarga falla y no hay claves anteriores.
+     */
+    public void refresh() throws GeneralSecurityException, IOException {
+        lock.lock();
+        try {
+            long now = source.getClock().currentTimeMillis();
+            if (keys != null && now < nextAttemptAt) {
+                return;
+            }
+
+            try {
+                source.refresh();
+                keys = new Keys(List.copyOf(source.getPublicKeys()), source.getExpirationTimeMilliseconds());
+                nextAttemptAt = 0;
+            } catch (GeneralSecurityException | IOException | RuntimeException e) {
+                if (keys == null) throw e;
+
+                nextAttemptAt = now + retryMillis;
+                log.warn("Error refreshing Google public keys, keeping the previous ones: {}", e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indica si las claves en caché vencen dentro del margen indicado.
+     *
+     * @param marginMillis El margen en milisegundos.
+     * @return true si no hay claves o vencen antes del margen.
+     */
+    public boolean isExpiringWithin(long marginMillis) {
+        return source.getClock().currentTimeMillis() + marginMillis >= getExpirationTimeMilliseconds();
+    }
+
+    GooglePublicKeysManager getSource() {
+        return source;
+    }
+
+    private record Keys(List<PublicKey> publicKeys, long expiresAt) {
+    }
+}
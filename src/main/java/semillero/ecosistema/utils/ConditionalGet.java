@@ -0,0 +1,20 @@
+package semillero.ecosistema.utils;
+
+import semillero.ecosistema.enumerations.ResourceCollection;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un endpoint GET público cuya respuesta depende solo de una colección de recursos. Sus respuestas llevan
+ * ETag, Last-Modified y Cache-Control, y las solicitudes condicionales se responden con 304 mientras la
+ * colección no cambie, sin ejecutar el endpoint.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    ResourceCollection value();
+}
@@ -0,0 +1,78 @@
+package semillero.ecosistema.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import semillero.ecosistema.services.CollectionVersionService;
+import semillero.ecosistema.services.CollectionVersionService.Version;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responde con 304 las solicitudes condicionales (If-None-Match, If-Modified-Since) a endpoints marcados con
+ * ConditionalGet cuando la colección no cambió, antes de ejecutar el endpoint. Si la colección cambió, deja en la
+ * solicitud la versión leída para que ConditionalGetResponseAdvice la agregue a la respuesta.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    public static final String VERSION_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".version";
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Value("${http.cache.max-age-seconds:0}")
+    private long maxAgeSeconds;
+
+    @Value("${http.cache.shared-max-age-seconds:60}")
+    private long sharedMaxAgeSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) return true;
+
+        ConditionalGet conditionalGet = method.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null || !isGetOrHead(request)) return true;
+
+        // La versión se lee antes que los datos: si cambian durante la solicitud, el ETag queda desactualizado
+        // y el próximo pedido condicional recibe la respuesta completa
+        Version version = collectionVersionService.current(conditionalGet.value());
+
+        // Sin la respuesta, checkNotModified solo evalúa las condiciones y no escribe encabezados
+        if (new ServletWebRequest(request).checkNotModified(version.etag(), version.lastModified())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, version.etag());
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.lastModified());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl());
+            return false;
+        }
+
+        request.setAttribute(VERSION_ATTRIBUTE, version);
+        return true;
+    }
+
+    /**
+     * Obtiene el valor de Cache-Control de las respuestas públicas: los navegadores revalidan según max-age y las
+     * CDN y proxies compartidos pueden reutilizar la respuesta durante s-maxage.
+     *
+     * @return El valor del encabezado.
+     */
+    public String cacheControl() {
+        return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .sMaxAge(sharedMaxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic()
+                .getHeaderValue();
+    }
+
+    private boolean isGetOrHead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
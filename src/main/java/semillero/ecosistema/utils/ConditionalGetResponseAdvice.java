@@ -0,0 +1,54 @@
+package semillero.ecosistema.utils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import semillero.ecosistema.services.CollectionVersionService.Version;
+
+/**
+ * Agrega ETag, Last-Modified y Cache-Control a las respuestas exitosas de los endpoints marcados con ConditionalGet.
+ * Las respuestas de error no se marcan como cacheables. Si el endpoint ya calculó su propio ETag, se conserva.
+ */
+@ControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+
+        Object version = servletRequest.getServletRequest().getAttribute(ConditionalGetInterceptor.VERSION_ATTRIBUTE);
+        if (version instanceof Version current) {
+            HttpHeaders headers = response.getHeaders();
+            if (headers.getETag() == null) {
+                headers.setETag(current.etag());
+            }
+            headers.setLastModified(current.lastModified());
+            headers.setCacheControl(conditionalGetInterceptor.cacheControl());
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,136 @@
+package semillero.ecosistema.utils;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.enumerations.ImageRendition;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+@Component
+public class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /**
+     * Genera las versiones reducidas de una imagen (miniatura y tarjeta). La imagen se decodifica una
+     * sola vez, submuestreada al tamaño de la versión más grande, y cada versión se obtiene de la anterior.
+     * Las imágenes con transparencia se codifican como PNG y el resto como JPEG.
+     *
+     * @param file El archivo de imagen original.
+     * @return El contenido codificado de cada versión.
+     * @throws IOException Si la imagen no puede leerse o codificarse.
+     */
+    public Map<ImageRendition, byte[]> createRenditions(MultipartFile file) throws IOException {
+        BufferedImage source = read(file, ImageRendition.CARD.getMaxSide());
+        boolean alpha = source.getColorModel().hasAlpha();
+        Map<ImageRendition, byte[]> renditions = new EnumMap<>(ImageRendition.class);
+
+        BufferedImage card = scale(source, ImageRendition.CARD.getMaxSide(), alpha);
+        BufferedImage thumbnail = scale(card, ImageRendition.THUMBNAIL.getMaxSide(), alpha);
+
+        renditions.put(ImageRendition.CARD, encode(card, alpha));
+        renditions.put(ImageRendition.THUMBNAIL, encode(thumbnail, alpha));
+
+        return renditions;
+    }
+
+    /**
+     * Decodifica la imagen leyendo solo una de cada N filas y columnas, de modo que el resultado
+     * tenga al menos targetSide píxeles en su lado mayor sin ocupar la memoria de la imagen completa.
+     */
+    private BufferedImage read(MultipartFile file, int targetSide) throws IOException {
+        try (InputStream input = file.getInputStream();
+             ImageInputStream stream = ImageIO.createImageInputStream(input)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int side = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, side / targetSide);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reduce la imagen para que su lado mayor no supere maxSide, a la mitad por paso para conservar
+     * la calidad con interpolación bilineal. Las imágenes más chicas se devuelven en un formato
+     * de color apto para codificar, sin ampliarlas.
+     */
+    private BufferedImage scale(BufferedImage image, int maxSide, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, alpha);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage image, int width, int height, boolean alpha) {
+        BufferedImage result = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            if (!alpha) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        if (alpha) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return output.toByteArray();
+    }
+}
@@ -2,19 +2,33 @@ package semillero.ecosistema.utils;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.enumerations.ImageFormat;
 
 import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
 
 @Component
 public class ImageUtil {
 
     private final int maxFileSize = 5 * 1024 * 1024; // 5MB
 
-    private final List<String> allowedImageTypes = Arrays.asList("jpg", "jpeg", "png", "gif", "bmp");
+    private final int maxDimension = 10000; // px por lado
+
+    // Cantidad de bytes necesarios para reconocer todos los formatos permitidos
+    private static final int MAGIC_LENGTH = 8;
 
     /**
      * Verifica si un archivo es una imagen válida, teniendo en cuenta el tipo y el tamaño permitido.
@@ -22,20 +36,95 @@ public class ImageUtil {
      * @return true si el archivo es una imagen válida, false de lo contrario.
      */
     public boolean isValidImage(MultipartFile file) {
-        return isImage(file) && isSizeAcceptable(file);
+        return inspect(file).isPresent();
     }
 
     /**
-     * Verifica si el archivo es de tipo imagen y su extensión está permitida.
-     * @param file El archivo a ser verificado.
-     * @return true si el archivo es de tipo imagen y su extensión está permitida, false de lo contrario.
+     * Calcula el SHA-256 del contenido de un archivo leyéndolo por bloques, sin cargarlo completo en memoria.
+     * @param file El archivo a procesar.
+     * @return El hash en hexadecimal (64 caracteres).
+     * @throws IOException Si no se puede leer el archivo.
      */
-    private boolean isImage(MultipartFile file) {
+    public String contentHash(MultipartFile file) throws IOException {
+        MessageDigest digest;
         try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            return image != null && allowedImageTypes.contains(getFileExtension(file));
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Obtiene el formato y las dimensiones de una imagen sin decodificarla. El tamaño se verifica antes
+     * de leer el archivo; luego se reconoce el formato por sus primeros bytes y se leen solo las
+     * dimensiones de la cabecera.
+     * @param file El archivo a ser verificado.
+     * @return La información de la imagen, o vacío si no es una imagen válida, su extensión no coincide
+     * con el contenido, o su tamaño o sus dimensiones exceden el límite.
+     */
+    public Optional<ImageInfo> inspect(MultipartFile file) {
+        if (!isSizeAcceptable(file)) {
+            return Optional.empty();
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            byte[] magic = input.readNBytes(MAGIC_LENGTH);
+            Optional<ImageFormat> format = detectFormat(magic);
+
+            if (format.isEmpty() || !format.get().getExtensions().contains(getFileExtension(file))) {
+                return Optional.empty();
+            }
+
+            // Se vuelven a anteponer los bytes ya leídos, sin volver a abrir el archivo
+            InputStream header = new SequenceInputStream(new ByteArrayInputStream(magic), input);
+            return readDimensions(header, format.get())
+                    .filter(info -> info.width() <= maxDimension && info.height() <= maxDimension);
         } catch (IOException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reconoce el formato de una imagen a partir de sus primeros bytes (firma o "magic bytes").
+     * @param magic Los primeros bytes del archivo.
+     * @return El formato reconocido, o vacío si no corresponde a ningún formato permitido.
+     */
+    public Optional<ImageFormat> detectFormat(byte[] magic) {
+        if (startsWith(magic, 0xFF, 0xD8, 0xFF)) return Optional.of(ImageFormat.JPEG);
+        if (startsWith(magic, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) return Optional.of(ImageFormat.PNG);
+        if (startsWith(magic, 'G', 'I', 'F', '8', '7', 'a')
+                || startsWith(magic, 'G', 'I', 'F', '8', '9', 'a')) return Optional.of(ImageFormat.GIF);
+        if (startsWith(magic, 'B', 'M')) return Optional.of(ImageFormat.BMP);
+        return Optional.empty();
+    }
+
+    /**
+     * Lee las dimensiones de la cabecera de la imagen. El flujo se almacena solo en memoria y
+     * únicamente se leen los bytes que el lector necesita.
+     */
+    private Optional<ImageInfo> readDimensions(InputStream input, ImageFormat format) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format.getReaderName());
+        if (!readers.hasNext()) {
+            return Optional.empty();
+        }
+
+        ImageReader reader = readers.next();
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(input)) {
+            reader.setInput(stream, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+
+            return width > 0 && height > 0
+                    ? Optional.of(new ImageInfo(format, width, height))
+                    : Optional.empty();
+        } finally {
+            reader.dispose();
         }
     }
 
@@ -45,7 +134,7 @@ public class ImageUtil {
      * @return true si el tamaño del archivo es aceptable, false de lo contrario.
      */
     private boolean isSizeAcceptable(MultipartFile file) {
-        return file.getSize() <= maxFileSize;
+        return file.getSize() > 0 && file.getSize() <= maxFileSize;
     }
 
     /**
@@ -65,4 +154,15 @@ public class ImageUtil {
 
         return "";
     }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) return false;
+        }
+        return true;
+    }
+
+    public record ImageInfo(ImageFormat format, int width, int height) {
+    }
 }
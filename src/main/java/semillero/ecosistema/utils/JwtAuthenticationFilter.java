@@ -2,8 +2,10 @@ package semillero.ecosistema.utils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +13,18 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import semillero.ecosistema.services.UserService;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,6 +35,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JwtPrincipalCache principalCache;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        parser = Jwts.parser().setSigningKey(JWT_SECRET_KEY);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -44,11 +60,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (token == null) return;
 
-            // Extrae el nombre de usuario (email) del token JWT.
-            String username = extractUsernameFromToken(token);
+            // Obtiene el usuario del token, verificándolo solo si no está en caché
+            UserDetails userDetails = resolvePrincipal(token);
 
             // Configura la autenticación en el contexto de seguridad de Spring
-            setAuthentication(request, username);
+            setAuthentication(request, userDetails);
 
             // Permite que la solicitud continúe su procesamiento
             filterChain.doFilter(request, response);
@@ -72,21 +88,52 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private Claims processToken(String token) {
-        return Jwts.parser()
-                .setSigningKey(JWT_SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private String extractUsernameFromToken(String token) {
+    /**
+     * Obtiene el usuario autenticado por un token. Los tokens ya verificados se resuelven desde la caché; el resto
+     * se verifica y se usan el email y el rol incluidos en sus claims. Solo se consulta la base de datos si el
+     * usuario se modificó después de emitido el token, si el token es anterior al arranque o si no incluye su rol.
+     *
+     * @param token El token JWT.
+     * @return Los datos del usuario, o null si el usuario no existe o está desactivado.
+     */
+    private UserDetails resolvePrincipal(String token) {
+        String key = principalCache.keyFor(token);
+        JwtPrincipalCache.CachedPrincipal cached = principalCache.get(key);
+        if (cached != null) {
+            return cached.principal();
+        }
+
+        long resolvedAt = System.currentTimeMillis();
         Claims claims = processToken(token);
-        return claims.getSubject();
+        Number id = claims.get("id", Number.class);
+        Long userId = id == null ? null : id.longValue();
+        String role = claims.get("role", String.class);
+
+        UserDetails userDetails;
+        if (userId == null || role == null || principalCache.isChangedSince(userId, claims.getIssuedAt())) {
+            userDetails = loadActiveUser(claims.getSubject());
+        } else {
+            userDetails = new User(claims.getSubject(), "", List.of(new SimpleGrantedAuthority(role)));
+        }
+
+        principalCache.put(key, userId, userDetails, claims.getExpiration(), resolvedAt);
+        return userDetails;
     }
 
-    private void setAuthentication(HttpServletRequest request, String username) {
-        if (username != null & SecurityContextHolder.getContext().getAuthentication() == null) {
+    private UserDetails loadActiveUser(String username) {
+        try {
             UserDetails userDetails = userService.loadUserByUsername(username);
+            return userDetails.isEnabled() ? userDetails : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails) {
+        if (userDetails != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,134 @@
+package semillero.ecosistema.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import semillero.ecosistema.events.UserChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché acotada de los usuarios autenticados a partir de tokens JWT ya verificados. Las entradas se indexan por
+ * el hash del token y vencen, como máximo, junto con él. Cuando se modifica un usuario se descartan sus entradas
+ * y los tokens emitidos antes del cambio dejan de confiar en sus claims. Los cambios se registran solo en memoria,
+ * por lo que tampoco se confía en los claims de los tokens emitidos antes de que arrancara esta instancia.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    // Los tokens duran 7 días; pasado ese plazo ningún token anterior a un cambio sigue siendo válido
+    private static final long TOKEN_LIFETIME_MS = 604800000L;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.principal-cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private final LinkedHashMap<String, CachedPrincipal> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    // La fecha de emisión de los tokens tiene precisión de segundos
+    private final long startedAt = System.currentTimeMillis() / 1000 * 1000;
+
+    /**
+     * Obtiene el usuario asociado a un token, si está en caché y no venció.
+     *
+     * @param key El hash del token, obtenido con keyFor.
+     * @return La entrada en caché, o null si no existe o venció.
+     */
+    public CachedPrincipal get(String key) {
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            CachedPrincipal cached = cache.get(key);
+            if (cached != null && cached.expiresAt <= now) {
+                cache.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Guarda el usuario asociado a un token hasta que venza el token o el tiempo máximo configurado. No se guarda
+     * si el usuario cambió después de que se empezó a resolver, para no volver a cachear datos desactualizados.
+     *
+     * @param key        El hash del token.
+     * @param userId     El ID del usuario, o null si el token no lo incluye.
+     * @param principal  Los datos del usuario, o null si el token no autentica a nadie.
+     * @param expiration La fecha de vencimiento del token.
+     * @param resolvedAt El momento en que se empezó a resolver el usuario, en milisegundos.
+     */
+    public void put(String key, Long userId, UserDetails principal, Date expiration, long resolvedAt) {
+        long expiresAt = Math.min(expiration.getTime(), resolvedAt + ttlMinutes * 60_000);
+
+        synchronized (cache) {
+            if (userId != null && changedAt.getOrDefault(userId, 0L) >= resolvedAt) return;
+
+            cache.put(key, new CachedPrincipal(userId, principal, expiresAt));
+            while (cache.size() > maxSize) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Indica si el usuario se modificó después de que se emitió un token, en cuyo caso sus claims
+     * pueden estar desactualizados. Los tokens sin fecha de emisión o emitidos antes del arranque se
+     * consideran modificados, porque los cambios anteriores al arranque no se conocen.
+     *
+     * @param userId   El ID del usuario.
+     * @param issuedAt La fecha de emisión del token.
+     * @return true si el usuario cambió o pudo cambiar después de emitido el token.
+     */
+    public boolean isChangedSince(Long userId, Date issuedAt) {
+        if (issuedAt == null || issuedAt.getTime() < startedAt) return true;
+
+        Long changed = changedAt.get(userId);
+        return changed != null && changed >= issuedAt.getTime();
+    }
+
+    /**
+     * Descarta las entradas de un usuario una vez confirmada la transacción que lo modificó.
+     *
+     * @param event El evento con el ID del usuario modificado.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            changedAt.put(event.getUserId(), now);
+            changedAt.values().removeIf(changed -> changed < now - TOKEN_LIFETIME_MS);
+            cache.values().removeIf(cached -> event.getUserId().equals(cached.userId));
+        }
+    }
+
+    /**
+     * Calcula la clave de un token, para no guardar tokens válidos en memoria.
+     *
+     * @param token El token JWT.
+     * @return El SHA-256 del token en Base64.
+     */
+    public String keyFor(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record CachedPrincipal(Long userId, UserDetails principal, long expiresAt) {
+    }
+}
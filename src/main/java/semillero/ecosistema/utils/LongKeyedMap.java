@@ -0,0 +1,65 @@
+package semillero.ecosistema.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Mapa inmutable con claves long primitivas, guardadas ordenadas en un arreglo y buscadas por búsqueda binaria.
+ * Evita crear un Long por consulta y ocupa menos memoria que un HashMap para conjuntos chicos que no cambian.
+ *
+ * @param <V> El tipo de los valores.
+ */
+public final class LongKeyedMap<V> {
+
+    private final long[] keys;
+
+    private final Object[] values;
+
+    private LongKeyedMap(long[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Crea un mapa a partir de una colección de elementos. Si dos elementos tienen la misma clave, se conserva el último.
+     *
+     * @param items  Los elementos a indexar.
+     * @param key    La función que obtiene la clave de cada elemento.
+     * @param value  La función que obtiene el valor de cada elemento.
+     * @param <T>    El tipo de los elementos.
+     * @param <V>    El tipo de los valores.
+     * @return El mapa creado.
+     */
+    public static <T, V> LongKeyedMap<V> of(Collection<T> items, ToLongFunction<T> key, Function<T, V> value) {
+        long[] sortedKeys = items.stream().mapToLong(key).sorted().distinct().toArray();
+        Object[] sortedValues = new Object[sortedKeys.length];
+
+        for (T item : items) {
+            sortedValues[Arrays.binarySearch(sortedKeys, key.applyAsLong(item))] = value.apply(item);
+        }
+
+        return new LongKeyedMap<>(sortedKeys, sortedValues);
+    }
+
+    public static <V> LongKeyedMap<V> empty() {
+        return new LongKeyedMap<>(new long[0], new Object[0]);
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param key La clave a buscar.
+     * @return El valor, o null si la clave no existe.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,104 @@
+package semillero.ecosistema;
+
+import jakarta.persistence.EntityManager;
+import semillero.ecosistema.entities.*;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.enumerations.UserRole;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Crea y persiste las entidades que usan las pruebas de JPA. Los datos son los mínimos que exigen las
+ * restricciones de cada entidad; cada prueba ajusta solo lo que verifica.
+ */
+public class TestFixtures {
+
+    private final EntityManager entityManager;
+
+    public TestFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Persiste un usuario, el país Argentina con la provincia Córdoba y la categoría Alimentos.
+     */
+    public Base base() {
+        User user = user("test@ecos.com");
+        Province province = province("Córdoba", country("Argentina"));
+        return new Base(user, province, category("Alimentos"));
+    }
+
+    public User user(String email) {
+        User user = new User();
+        user.setName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setRole(UserRole.USUARIO_REGULAR);
+        entityManager.persist(user);
+        return user;
+    }
+
+    public Country country(String name) {
+        Country country = new Country();
+        country.setName(name);
+        entityManager.persist(country);
+        return country;
+    }
+
+    public Province province(String name, Country country) {
+        Province province = new Province();
+        province.setName(name);
+        province.setCountry(country);
+        entityManager.persist(province);
+        return province;
+    }
+
+    public Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setImage(new CategoryImage(null, name, "/" + name, null, "/" + name + "_thumb", category));
+        entityManager.persist(category);
+        return category;
+    }
+
+    public Supplier supplier(String name, SupplierStatus status, Base base) {
+        return supplier(name, status, base.province(), base.category(), base.user());
+    }
+
+    /**
+     * Persiste un proveedor con una imagen.
+     */
+    public Supplier supplier(String name, SupplierStatus status, Province province, Category category, User user) {
+        Supplier supplier = new Supplier();
+        supplier.setName(name);
+        supplier.setDescription("Description");
+        supplier.setShortDescription("Short description");
+        supplier.setPhone("123456");
+        supplier.setEmail(name.toLowerCase().replace(' ', '.') + "@ecos.com");
+        supplier.setCountry(province.getCountry());
+        supplier.setProvince(province);
+        supplier.setCity("City");
+        supplier.setCategory(category);
+        supplier.setStatus(status);
+        supplier.setDeleted(false);
+        supplier.setUser(user);
+
+        List<SupplierImage> images = new ArrayList<>();
+        images.add(new SupplierImage(null, name, "/" + name, null, null, supplier));
+        supplier.setImages(images);
+        entityManager.persist(supplier);
+        return supplier;
+    }
+
+    /**
+     * Escribe lo persistido y vacía el contexto, para que las pruebas lean desde la base de datos.
+     */
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    public record Base(User user, Province province, Category category) {
+    }
+}
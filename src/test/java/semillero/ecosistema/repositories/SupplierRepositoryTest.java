@@ -0,0 +1,124 @@
+package semillero.ecosistema.repositories;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.dtos.supplier.SupplierDTO;
+import semillero.ecosistema.entities.*;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.mappers.SupplierMapper;
+import semillero.ecosistema.repositories.projections.SupplierDistanceProjection;
+import semillero.ecosistema.repositories.projections.SupplierSummaryProjection;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SupplierRepositoryTest {
+
+    private static final int SUPPLIERS = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    private final SupplierMapper supplierMapper = SupplierMapper.getInstance();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user("test@ecos.com");
+
+        for (int i = 0; i < SUPPLIERS; i++) {
+            Province province = fixtures.province("Province " + i, fixtures.country("Country " + i));
+            Supplier supplier = fixtures.supplier("Supplier " + i,
+                    i % 2 == 0 ? SupplierStatus.ACEPTADO : SupplierStatus.REVISION_INICIAL,
+                    province, fixtures.category("Category " + i), user);
+            supplier.setLatitude(-31.4 + i * 0.01);
+            supplier.setLongitude(-64.2);
+            for (int j = 1; j < 3; j++) {
+                supplier.getImages().add(new SupplierImage(null, "image" + i + j, "/image" + i + j, "/card" + i + j, null, supplier));
+            }
+        }
+
+        fixtures.flushAndClear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingWithImagesUsesSingleStatement() {
+        List<SupplierDTO> suppliers = supplierMapper.toDTOsList(
+                supplierRepository.findAllByStatusAndDeletedFalse(SupplierStatus.ACEPTADO));
+
+        assertEquals(SUPPLIERS / 2, suppliers.size());
+        assertEquals(3, suppliers.get(0).getImages().size());
+        // Los listados llevan la versión reducida
+        assertTrue(suppliers.get(0).getImages().contains("/card01"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void slicedListingUsesConstantStatements() {
+        Slice<Supplier> slice = supplierRepository.findAllByStatusAndDeletedFalse(
+                SupplierStatus.ACEPTADO, PageRequest.of(0, SUPPLIERS, Sort.by("id")));
+        List<SupplierDTO> suppliers = supplierMapper.toDTOsList(slice.getContent());
+
+        assertEquals(SUPPLIERS / 2, suppliers.size());
+        // Consulta de la página + carga por lotes de las imágenes
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void summariesAreLimitedPerStatusInSingleStatement() {
+        List<SupplierSummaryProjection> summaries = supplierRepository.findAllSummariesLimitedByStatus(2);
+
+        assertEquals(4, summaries.size());
+        assertEquals(SUPPLIERS / 2, summaries.get(0).getTotal());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void nearbySuppliersAreSortedByDistanceWithinRadius() {
+        // Los proveedores aceptados están a 0, 2.2, 4.4, 6.7 y 8.9 km del punto
+        List<SupplierDistanceProjection> nearby = supplierRepository.findNearby(
+                SupplierStatus.ACEPTADO.name(), -31.4, -64.2, -31.5, -31.3, -64.3, -64.1, 5.0, 10, 0);
+
+        assertEquals(3, nearby.size());
+        assertTrue(nearby.get(0).getDistance() < nearby.get(1).getDistance());
+        assertTrue(nearby.get(1).getDistance() < nearby.get(2).getDistance());
+        assertTrue(nearby.get(2).getDistance() <= 5.0);
+    }
+
+    @Test
+    void bestLocationMatchFallsBackToCountryInSingleStatement() {
+        List<Supplier> cityMatches = supplierRepository.findAllBestLocationMatches(
+                SupplierStatus.ACEPTADO, "Country 0", "Province 0", "City");
+        List<Supplier> countryMatches = supplierRepository.findAllBestLocationMatches(
+                SupplierStatus.ACEPTADO, "Country 2", "Other province", "Other city");
+        List<Supplier> noMatches = supplierRepository.findAllBestLocationMatches(
+                SupplierStatus.ACEPTADO, "Country 1", "Province 1", "City");
+
+        assertEquals("Supplier 0", cityMatches.get(0).getName());
+        assertEquals("Supplier 2", countryMatches.get(0).getName());
+        assertTrue(noMatches.isEmpty());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,90 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import semillero.ecosistema.entities.AssetDeletion;
+import semillero.ecosistema.entities.StoredImage;
+import semillero.ecosistema.enumerations.AssetDeletionStatus;
+import semillero.ecosistema.repositories.AssetDeletionRepository;
+import semillero.ecosistema.repositories.StoredImageRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AssetDeletionServiceTest {
+
+    private final AssetDeletionRepository assetDeletionRepository = mock(AssetDeletionRepository.class);
+
+    private final ImageStorage imageStorage = mock(ImageStorage.class);
+
+    private final StoredImageRepository storedImageRepository = mock(StoredImageRepository.class);
+
+    private final AssetDeletionService assetDeletionService = new AssetDeletionService();
+
+    private final AssetDeletion first = deletion("folder/a", 0);
+
+    private final AssetDeletion second = deletion("folder/b", 2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(assetDeletionService, "assetDeletionRepository", assetDeletionRepository);
+        ReflectionTestUtils.setField(assetDeletionService, "imageStorage", imageStorage);
+        ReflectionTestUtils.setField(assetDeletionService, "storedImageRepository", storedImageRepository);
+        ReflectionTestUtils.setField(assetDeletionService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(assetDeletionService, "initialBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(assetDeletionService, "maxBackoffSeconds", 3600L);
+
+        when(assetDeletionRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderById(
+                eq(AssetDeletionStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+    }
+
+    @Test
+    void removesDeletedAssetsAndRetriesTheRest() throws Exception {
+        when(imageStorage.deleteImages(List.of("folder/a", "folder/b"))).thenReturn(Set.of("folder/a"));
+
+        assetDeletionService.processPending();
+
+        verify(assetDeletionRepository).deleteAll(List.of(first));
+        assertEquals(3, second.getAttempts());
+        assertEquals(AssetDeletionStatus.DEAD, second.getStatus());
+    }
+
+    @Test
+    void backsOffWholeBatchOnFailure() throws Exception {
+        when(imageStorage.deleteImages(anyList())).thenThrow(new RuntimeException("Timeout"));
+
+        assetDeletionService.processPending();
+
+        assertEquals(1, first.getAttempts());
+        assertEquals(AssetDeletionStatus.PENDING, first.getStatus());
+        assertEquals("Timeout", first.getLastError());
+        assertTrue(first.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+    }
+
+    @Test
+    void skipsImagesReferencedAgain() throws Exception {
+        when(storedImageRepository.findAllByHashIn(Set.of("a", "b")))
+                .thenReturn(List.of(new StoredImage(1L, "folder", "b", "/b", null, null, 1)));
+        when(imageStorage.deleteImages(List.of("folder/a"))).thenReturn(Set.of("folder/a"));
+
+        assetDeletionService.processPending();
+
+        verify(assetDeletionRepository).deleteAll(List.of(second));
+        verify(assetDeletionRepository).deleteAll(List.of(first));
+        verify(imageStorage).deleteImages(List.of("folder/a"));
+    }
+
+    private static AssetDeletion deletion(String publicId, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return new AssetDeletion(null, publicId, AssetDeletionStatus.PENDING, attempts, now, null, now);
+    }
+}
@@ -0,0 +1,112 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import semillero.ecosistema.dtos.search.SuggestionDTO;
+import semillero.ecosistema.entities.Category;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.CategoryRepository;
+import semillero.ecosistema.repositories.SupplierRepository;
+import semillero.ecosistema.repositories.projections.SupplierNameProjection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AutocompleteServiceTest {
+
+    private final SupplierRepository supplierRepository = mock(SupplierRepository.class);
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+
+    private final AutocompleteService autocompleteService = new AutocompleteService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(autocompleteService, "supplierRepository", supplierRepository);
+        ReflectionTestUtils.setField(autocompleteService, "categoryRepository", categoryRepository);
+
+        when(supplierRepository.findAllNamesByStatusAndDeletedFalse(SupplierStatus.ACEPTADO)).thenReturn(List.of(
+                name(1L, "Panadería Orgánica"),
+                name(2L, "Almacén del Pan"),
+                name(3L, "Pastelería Real")
+        ));
+        when(categoryRepository.findAll()).thenReturn(List.of(category(10L, "Panificados")));
+
+        autocompleteService.rebuild();
+    }
+
+    @Test
+    void suggestsNamePrefixesBeforeWordMatches() {
+        assertEquals(List.of("Panadería Orgánica", "Panificados", "Almacén del Pan"),
+                names(autocompleteService.suggest("PAN", 10)));
+        assertEquals(List.of("Panadería Orgánica"), names(autocompleteService.suggest("organ", 10)));
+        assertEquals(List.of("Panadería Orgánica", "Panificados"), names(autocompleteService.suggest("pan", 2)));
+    }
+
+    @Test
+    void updatesChangedSuppliers() {
+        Supplier renamed = new Supplier();
+        renamed.setId(3L);
+        renamed.setName("Panadería Real");
+        renamed.setStatus(SupplierStatus.ACEPTADO);
+        renamed.setDeleted(false);
+        Supplier denied = new Supplier();
+        denied.setId(1L);
+        denied.setName("Panadería Orgánica");
+        denied.setStatus(SupplierStatus.DENEGADO);
+        denied.setDeleted(false);
+        when(supplierRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(denied, renamed));
+
+        autocompleteService.onSupplierChanged(new SupplierChangedEvent(List.of(1L, 3L)));
+
+        assertEquals(List.of("Panadería Real", "Panificados", "Almacén del Pan"),
+                names(autocompleteService.suggest("pan", 10)));
+        assertEquals(List.of(), autocompleteService.suggest("past", 10));
+    }
+
+    @Test
+    void keepsServingThePreviousIndexWhileRebuilding() {
+        List<List<String>> duringRebuild = new ArrayList<>();
+        when(categoryRepository.findAll()).thenAnswer(invocation -> {
+            duringRebuild.add(names(autocompleteService.suggest("pan", 10)));
+            return List.of();
+        });
+
+        autocompleteService.rebuild();
+
+        assertEquals(List.of(List.of("Panadería Orgánica", "Panificados", "Almacén del Pan")), duringRebuild);
+        assertEquals(List.of("Panadería Orgánica", "Almacén del Pan"), names(autocompleteService.suggest("pan", 10)));
+    }
+
+    private static List<String> names(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getName).toList();
+    }
+
+    private static SupplierNameProjection name(Long id, String name) {
+        return new SupplierNameProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+}
@@ -0,0 +1,58 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import semillero.ecosistema.enumerations.ResourceCollection;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.SupplierRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CollectionVersionService.class, AutocompleteService.class, SupplierSearchService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CollectionVersionServiceTest {
+
+    @Autowired
+    private CollectionVersionService collectionVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private SupplierRepository supplierRepository;
+
+    @Test
+    void bumpsVersionAfterDerivedDataIsUpdated() {
+        long before = collectionVersionService.current(ResourceCollection.SUPPLIERS).number();
+
+        // El autocompletado y el buscador leen los proveedores modificados; se anota la versión en ese momento
+        List<Long> seen = new ArrayList<>();
+        when(supplierRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            seen.add(collectionVersionService.current(ResourceCollection.SUPPLIERS).number());
+            return List.of();
+        });
+
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(new SupplierChangedEvent(List.of(1L))));
+
+        assertEquals(List.of(before, before), seen);
+        assertEquals(before + 1, collectionVersionService.current(ResourceCollection.SUPPLIERS).number());
+    }
+}
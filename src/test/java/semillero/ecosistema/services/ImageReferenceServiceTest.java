@@ -0,0 +1,59 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import semillero.ecosistema.entities.StoredImage;
+import semillero.ecosistema.repositories.StoredImageRepository;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ImageReferenceService.class)
+class ImageReferenceServiceTest {
+
+    @Autowired
+    private ImageReferenceService imageReferenceService;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @MockBean
+    private AssetDeletionService assetDeletionService;
+
+    private final UploadedImage first = new UploadedImage("a", "/a", "/a_card", "/a_thumb", false);
+
+    private final UploadedImage second = new UploadedImage("b", "/b", "/b_card", "/b_thumb", false);
+
+    @Test
+    void countsReferencesToTheSameContent() {
+        imageReferenceService.acquire(List.of(first, second), "test");
+        imageReferenceService.acquire(List.of(first), "test");
+
+        StoredImage stored = storedImageRepository.findByFolderAndHash("test", "a").orElseThrow();
+        assertEquals(2, stored.getReferenceCount());
+        assertEquals("/a_card", stored.getCardPath());
+        assertTrue(storedImageRepository.findByFolderAndHash("other", "a").isEmpty());
+    }
+
+    @Test
+    void deletesImagesOnlyWhenTheLastReferenceIsReleased() {
+        imageReferenceService.acquire(List.of(first, first, second), "test");
+
+        // Una imagen compartida, una sin más referencias y una anterior a la deduplicación
+        imageReferenceService.release(List.of("a", "b", "legacy"), "test");
+
+        verify(assetDeletionService).enqueue(List.of("legacy", "b"), "test");
+        assertEquals(1, storedImageRepository.findByFolderAndHash("test", "a").orElseThrow().getReferenceCount());
+        assertTrue(storedImageRepository.findByFolderAndHash("test", "b").isEmpty());
+    }
+}
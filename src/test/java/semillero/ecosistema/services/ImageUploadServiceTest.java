@@ -0,0 +1,112 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import semillero.ecosistema.entities.StoredImage;
+import semillero.ecosistema.enumerations.ImageRendition;
+import semillero.ecosistema.repositories.StoredImageRepository;
+import semillero.ecosistema.utils.ImageResizer;
+import semillero.ecosistema.utils.ImageUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageUploadServiceTest {
+
+    private final ImageStorage imageStorage = mock(ImageStorage.class);
+
+    private final AssetDeletionService assetDeletionService = mock(AssetDeletionService.class);
+
+    private final ImageResizer imageResizer = mock(ImageResizer.class);
+
+    private final ImageUtil imageUtil = mock(ImageUtil.class);
+
+    private final StoredImageRepository storedImageRepository = mock(StoredImageRepository.class);
+
+    private final ImageUploadService imageUploadService = new ImageUploadService();
+
+    private final MultipartFile valid = new MockMultipartFile("images", "a.png", "image/png", new byte[]{1});
+
+    private final MultipartFile invalid = new MockMultipartFile("images", "b.png", "image/png", new byte[]{2});
+
+    private final MultipartFile stored = new MockMultipartFile("images", "c.png", "image/png", new byte[]{5});
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(imageUploadService, "imageStorage", imageStorage);
+        ReflectionTestUtils.setField(imageUploadService, "assetDeletionService", assetDeletionService);
+        ReflectionTestUtils.setField(imageUploadService, "imageResizer", imageResizer);
+        ReflectionTestUtils.setField(imageUploadService, "imageUtil", imageUtil);
+        ReflectionTestUtils.setField(imageUploadService, "storedImageRepository", storedImageRepository);
+        ReflectionTestUtils.setField(imageUploadService, "executor", new SyncTaskExecutor());
+
+        when(imageUtil.isValidImage(any())).thenReturn(true);
+        when(imageUtil.contentHash(any())).thenAnswer(invocation ->
+                "hash" + ((MultipartFile) invocation.getArgument(0)).getBytes()[0]);
+        when(storedImageRepository.findByFolderAndHash(anyString(), anyString())).thenReturn(Optional.empty());
+        when(storedImageRepository.findByFolderAndHash("test", "hash5")).thenReturn(Optional.of(
+                new StoredImage(1L, "test", "hash5", "/hash5", "/hash5_card", "/hash5_thumb", 1)));
+
+        when(imageResizer.createRenditions(any())).thenReturn(Map.of(
+                ImageRendition.CARD, new byte[]{3},
+                ImageRendition.THUMBNAIL, new byte[]{4}));
+        when(imageStorage.uploadBytes(any(), anyString(), eq("test")))
+                .thenAnswer(invocation -> "/" + invocation.getArgument(1));
+
+        when(imageStorage.uploadImage(eq(valid), anyString(), eq("test")))
+                .thenAnswer(invocation -> "/" + invocation.getArgument(1));
+        when(imageStorage.uploadImage(eq(invalid), anyString(), eq("test")))
+                .thenThrow(new IOException("Invalid image"));
+    }
+
+    @Test
+    void uploadsAllImagesInOrder() throws IOException {
+        List<ImageUploadService.UploadedImage> uploaded = imageUploadService.uploadAll(List.of(valid, valid), "test");
+
+        assertEquals(2, uploaded.size());
+        assertEquals("hash1", uploaded.get(0).name());
+        assertEquals("/" + uploaded.get(0).name(), uploaded.get(0).path());
+        assertEquals("/" + uploaded.get(0).name() + "_card", uploaded.get(0).cardPath());
+        assertEquals("/" + uploaded.get(0).name() + "_thumb", uploaded.get(0).thumbnailPath());
+    }
+
+    @Test
+    void reusesImagesWithTheSameContent() throws IOException {
+        ImageUploadService.UploadedImage uploaded = imageUploadService.uploadAll(List.of(stored), "test").get(0);
+
+        assertTrue(uploaded.reused());
+        assertEquals("/hash5_thumb", uploaded.thumbnailPath());
+        verify(imageStorage, never()).uploadImage(any(), anyString(), anyString());
+    }
+
+    @Test
+    void enqueuesDeletionOfUploadedImagesWhenOneFails() throws IOException {
+        IOException e = assertThrows(IOException.class,
+                () -> imageUploadService.uploadAll(List.of(valid, invalid, stored), "test"));
+
+        assertEquals("Invalid image", e.getMessage());
+        verify(assetDeletionService).enqueue(List.of("hash1"), "test");
+    }
+
+    @Test
+    void enqueuesDeletionOfOriginalWhenRenditionFails() throws IOException {
+        when(imageStorage.uploadBytes(any(), endsWith("_thumb"), eq("test")))
+                .thenThrow(new IOException("Upload failed"));
+
+        assertThrows(IOException.class, () -> imageUploadService.uploadAll(List.of(valid), "test"));
+
+        verify(assetDeletionService).enqueue(argThat(names -> names.size() == 1), eq("test"));
+    }
+}
@@ -0,0 +1,57 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalGeocoderTest {
+
+    private static final String BOUNDARIES = """
+            {"type": "FeatureCollection", "features": [
+              {"type": "Feature", "properties": {"level": "country", "name": "Argentina"},
+               "geometry": {"type": "Polygon", "coordinates": [[[-70, -40], [-55, -40], [-55, -25], [-70, -25], [-70, -40]]]}},
+              {"type": "Feature", "properties": {"level": "province", "name": "Córdoba"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[-66, -35], [-62, -35], [-62, -29], [-66, -29], [-66, -35]],
+                 [[-63, -34], [-62.5, -34], [-62.5, -33.5], [-63, -33.5], [-63, -34]]]}},
+              {"type": "Feature", "properties": {"level": "city", "name": "Córdoba"},
+               "geometry": {"type": "MultiPolygon", "coordinates": [
+                 [[[-64.3, -31.5], [-64.1, -31.5], [-64.1, -31.3], [-64.3, -31.3], [-64.3, -31.5]]]]}}
+            ]}
+            """;
+
+    private LocalGeocoder geocoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        geocoder = new LocalGeocoder();
+        geocoder.load(new ByteArrayInputStream(BOUNDARIES.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void resolvesAllLevelsInsideCity() {
+        Map<String, String> location = geocoder.resolve(-31.4, -64.2);
+
+        assertEquals("Argentina", location.get("country"));
+        assertEquals("Córdoba", location.get("province"));
+        assertEquals("Córdoba", location.get("city"));
+    }
+
+    @Test
+    void excludesPointsInsideHoles() {
+        Map<String, String> location = geocoder.resolve(-33.75, -62.75);
+
+        assertEquals("Argentina", location.get("country"));
+        assertNull(location.get("province"));
+    }
+
+    @Test
+    void returnsEmptyOutsideBoundaries() {
+        assertTrue(geocoder.resolve(40.4, -3.7).isEmpty());
+    }
+}
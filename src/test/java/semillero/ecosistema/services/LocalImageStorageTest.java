@@ -0,0 +1,85 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import semillero.ecosistema.controllers.ImageController;
+import semillero.ecosistema.utils.ImageUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class LocalImageStorageTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @TempDir
+    Path root;
+
+    private final LocalImageStorage storage = new LocalImageStorage();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(storage, "imageUtil", mock(ImageUtil.class));
+        ReflectionTestUtils.setField(storage, "root", root);
+        ReflectionTestUtils.setField(storage, "baseUrl", "/api/images");
+        storage.init();
+
+        ImageController controller = new ImageController();
+        ReflectionTestUtils.setField(controller, "localImageStorage", storage);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void storesAndDeletesImages() throws Exception {
+        String url = storage.uploadImage(new MockMultipartFile("image", "a.png", "image/png", CONTENT), "abc", "proveedores");
+
+        assertEquals("/api/images/proveedores/abc", url);
+        assertArrayEquals(CONTENT, Files.readAllBytes(root.resolve("proveedores/abc")));
+        assertEquals(Set.of("proveedores/abc", "proveedores/missing"),
+                storage.deleteImages(List.of("proveedores/abc", "proveedores/missing")));
+        assertFalse(Files.exists(root.resolve("proveedores/abc")));
+    }
+
+    @Test
+    void rejectsPathTraversal() {
+        assertThrows(IOException.class, () -> storage.uploadImage(
+                new MockMultipartFile("image", "a.png", "image/png", CONTENT), "..", "proveedores"));
+        assertTrue(storage.find("..", "etc").isEmpty());
+    }
+
+    @Test
+    void servesFullImageAndRanges() throws Exception {
+        storage.uploadImage(new MockMultipartFile("image", "a.png", "image/png", CONTENT), "abc", "proveedores");
+
+        mockMvc.perform(get("/api/images/proveedores/abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(content().bytes(CONTENT));
+
+        mockMvc.perform(get("/api/images/proveedores/abc").header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes()));
+
+        mockMvc.perform(get("/api/images/proveedores/abc").header("Range", "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+
+        mockMvc.perform(get("/api/images/proveedores/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
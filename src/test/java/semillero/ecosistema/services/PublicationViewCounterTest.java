@@ -0,0 +1,75 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PublicationViewCounterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final StatisticsRollupService statisticsRollupService = mock(StatisticsRollupService.class);
+
+    private final PublicationViewCounter counter = new PublicationViewCounter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counter, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(counter, "statisticsRollupService", statisticsRollupService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushesPendingViewsAndDropsEmptyCounters() {
+        counter.record(1L);
+        counter.record(1L);
+        counter.record(2L);
+
+        counter.flush();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> batch) -> batch.size() == 2
+                && batch.stream().anyMatch(row -> row[0].equals(2L) && row[1].equals(1L))));
+        verify(statisticsRollupService).recordPublicationViews(Map.of(1L, 2L, 2L, 1L), LocalDate.now());
+        assertEquals(0, counter.getPending(1L));
+        assertEquals(0, ((Map<Long, ?>) ReflectionTestUtils.getField(counter, "pending")).size());
+
+        counter.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void keepsViewsWhenTheFlushFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("Timeout"));
+        counter.record(1L);
+
+        counter.flush();
+        counter.record(1L);
+
+        assertEquals(2, counter.getPending(1L));
+        verifyNoInteractions(statisticsRollupService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushesOnShutdown() {
+        counter.record(3L);
+
+        counter.flushOnShutdown();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertArrayEquals(new Object[]{1L, 3L}, batch.getValue().get(0));
+    }
+}
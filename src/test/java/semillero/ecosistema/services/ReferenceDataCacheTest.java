@@ -0,0 +1,72 @@
+package semillero.ecosistema.services;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.entities.Country;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(ReferenceDataCache.class)
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    private Country country;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        country = fixtures.country("Argentina");
+        fixtures.province("Córdoba", country);
+        fixtures.province("Mendoza", country);
+        fixtures.category("Alimentos");
+        fixtures.flushAndClear();
+
+        // El contexto se comparte entre pruebas, así que se descarta lo cargado por la anterior
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent());
+    }
+
+    @Test
+    void servesSerializedListsByCountry() {
+        String provinces = new String(
+                referenceDataCache.getProvincesByCountryJson(country.getId()).body(), StandardCharsets.UTF_8);
+
+        assertTrue(provinces.contains("Córdoba") && provinces.contains("Mendoza"));
+        assertEquals(2, referenceDataCache.getProvincesByCountry(country.getId()).size());
+        assertEquals("[]", new String(referenceDataCache.getProvincesByCountryJson(-1).body(), StandardCharsets.UTF_8));
+        assertEquals("Argentina", referenceDataCache.getCountry(country.getId()).orElseThrow().getName());
+        assertEquals("/Alimentos_thumb", referenceDataCache.getCategories().get(0).getThumbnail());
+    }
+
+    @Test
+    void reloadsAfterChanges() {
+        ReferenceDataCache.JsonResource before = referenceDataCache.getCountriesJson();
+        assertSame(before, referenceDataCache.getCountriesJson());
+
+        Country other = new TestFixtures(entityManager).country("Uruguay");
+        entityManager.flush();
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+        ReferenceDataCache.JsonResource after = referenceDataCache.getCountriesJson();
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(referenceDataCache.getCountry(other.getId()).isPresent());
+    }
+}
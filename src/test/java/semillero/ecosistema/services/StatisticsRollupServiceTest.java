@@ -0,0 +1,81 @@
+package semillero.ecosistema.services;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.services.StatisticsRollupService.StatusChange;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(StatisticsRollupService.class)
+class StatisticsRollupServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatisticsRollupService statisticsRollupService;
+
+    private TestFixtures fixtures;
+
+    private TestFixtures.Base base;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(entityManager);
+        base = fixtures.base();
+        fixtures.supplier("Panadería", SupplierStatus.REVISION_INICIAL, base);
+        fixtures.supplier("Almacén", SupplierStatus.REVISION_INICIAL, base);
+        entityManager.flush();
+
+        // La reconstrucción ya corrió al arrancar el contexto; se quita la marca para probarla de nuevo
+        entityManager.createNativeQuery("DELETE FROM statistics_rollup WHERE metric = 'BACKFILL'").executeUpdate();
+    }
+
+    @Test
+    void backfillReplacesCountersOnlyOnce() {
+        // Un alta registrada antes de la reconstrucción no se cuenta dos veces
+        statisticsRollupService.recordSupplierCreated(LocalDate.now(), SupplierStatus.REVISION_INICIAL, base.category().getId());
+
+        statisticsRollupService.backfillIfEmpty();
+
+        assertEquals(2, statisticsRollupService.getSupplierStatistics(YearMonth.now()).getInReview());
+        assertEquals(1, statisticsRollupService.getUsersCreated(YearMonth.now()));
+
+        fixtures.supplier("Huerta", SupplierStatus.REVISION_INICIAL, base);
+        entityManager.flush();
+        statisticsRollupService.backfillIfEmpty();
+
+        assertEquals(2, statisticsRollupService.getSupplierStatistics(YearMonth.now()).getInReview());
+    }
+
+    @Test
+    void accumulatesPublicationViewsAndStatusChanges() {
+        statisticsRollupService.backfillIfEmpty();
+
+        statisticsRollupService.recordPublicationViews(Map.of(1L, 2L), LocalDate.now());
+        statisticsRollupService.recordSupplierStatusChanges(List.of(
+                new StatusChange(LocalDate.now(), SupplierStatus.REVISION_INICIAL, SupplierStatus.ACEPTADO),
+                new StatusChange(LocalDate.now(), SupplierStatus.REVISION_INICIAL, SupplierStatus.ACEPTADO)
+        ));
+
+        assertEquals(2L, statisticsRollupService.getMonthlyTrend(StatisticsMetric.PUBLICATION_VIEWS, null, 1).get(0).getAmount());
+        assertEquals(2L, statisticsRollupService.getMonthlyTrend(StatisticsMetric.PUBLICATION_VIEWS, "1", 1).get(0).getAmount());
+        assertEquals(0, statisticsRollupService.getSupplierStatistics(YearMonth.now()).getInReview());
+        assertEquals(2, statisticsRollupService.getSupplierStatistics(YearMonth.now()).getApproved());
+    }
+}
@@ -0,0 +1,129 @@
+package semillero.ecosistema.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.dtos.supplier.SupplierDTO;
+import semillero.ecosistema.entities.*;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.services.SupplierDirectoryService.DirectoryResource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({SupplierDirectoryService.class, ReferenceDataCache.class})
+class SupplierDirectoryServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SupplierDirectoryService supplierDirectoryService;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Category food;
+
+    private Category textiles;
+
+    private Province cordoba;
+
+    private Supplier pending;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        TestFixtures.Base base = fixtures.base();
+        cordoba = base.province();
+        food = base.category();
+        Province mendoza = fixtures.province("Mendoza", cordoba.getCountry());
+        textiles = fixtures.category("Textiles");
+
+        fixtures.supplier("Panadería", SupplierStatus.ACEPTADO, base);
+        fixtures.supplier("Hilandería", SupplierStatus.ACEPTADO, mendoza, textiles, base.user());
+        pending = fixtures.supplier("Almacén", SupplierStatus.REVISION_INICIAL, mendoza, food, base.user());
+        fixtures.flushAndClear();
+
+        // El contexto se comparte entre pruebas, así que se descarta lo armado por la anterior
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent());
+        supplierDirectoryService.onReferenceDataChanged(new ReferenceDataChangedEvent());
+    }
+
+    @Test
+    void servesAcceptedSuppliersAndSlices() throws Exception {
+        assertEquals(List.of("Panadería", "Hilandería"), names(supplierDirectoryService.getAccepted()));
+        assertEquals(List.of("Panadería"), names(supplierDirectoryService.getAcceptedByCategory(food.getId()).orElseThrow()));
+        assertEquals(List.of("Panadería"), names(supplierDirectoryService.getAcceptedByProvince(cordoba.getId())));
+        assertEquals("[]", new String(supplierDirectoryService.getAcceptedByProvince(-1).body(), StandardCharsets.UTF_8));
+        assertEquals(textiles.getId(), supplierDirectoryService.findCategoryId("textil").orElseThrow());
+    }
+
+    @Test
+    void updatesOnlyChangedSuppliers() throws Exception {
+        DirectoryResource textilesBefore = supplierDirectoryService.getAcceptedByCategory(textiles.getId()).orElseThrow();
+
+        Supplier supplier = entityManager.find(Supplier.class, pending.getId());
+        supplier.setStatus(SupplierStatus.ACEPTADO);
+        entityManager.flush();
+        supplierDirectoryService.onSupplierChanged(new SupplierChangedEvent(List.of(pending.getId())));
+
+        assertEquals(List.of("Panadería", "Hilandería", "Almacén"), names(supplierDirectoryService.getAccepted()));
+        assertEquals(List.of("Panadería", "Almacén"),
+                names(supplierDirectoryService.getAcceptedByCategory(food.getId()).orElseThrow()));
+        assertSame(textilesBefore, supplierDirectoryService.getAcceptedByCategory(textiles.getId()).orElseThrow());
+    }
+
+    @Test
+    void servesGzipWhenAccepted() throws Exception {
+        DirectoryResource resource = DirectoryResource.of("[\"proveedor\"]".repeat(100).getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/suppliers/allAccepted");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        ResponseEntity<byte[]> response = resource.toResponse(new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertArrayEquals(resource.body(), in.readAllBytes());
+        }
+
+        // El ETag de la versión comprimida no valida la versión sin comprimir
+        MockHttpServletRequest identity = new MockHttpServletRequest("GET", "/api/suppliers/allAccepted");
+        identity.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeaders().getETag());
+        assertNotNull(resource.toResponse(new ServletWebRequest(identity, new MockHttpServletResponse())));
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeaders().getETag());
+        assertNull(resource.toResponse(new ServletWebRequest(request, new MockHttpServletResponse())));
+    }
+
+    private List<String> names(DirectoryResource resource) throws Exception {
+        return objectMapper.readValue(resource.body(), new TypeReference<List<SupplierDTO>>() {
+        }).stream().map(SupplierDTO::getName).toList();
+    }
+}
@@ -0,0 +1,242 @@
+package semillero.ecosistema.services;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.dtos.supplier.SupplierImportErrorDTO;
+import semillero.ecosistema.dtos.supplier.SupplierImportJobDTO;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.entities.User;
+import semillero.ecosistema.enumerations.ImportFormat;
+import semillero.ecosistema.enumerations.ImportJobStatus;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.ReferenceDataChangedEvent;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.services.ImageUploadService.UploadedImage;
+import semillero.ecosistema.utils.ImageUtil;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "supplier.import.batch-size=2",
+        "supplier.import.allow-private-hosts=true"
+})
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({SupplierImportService.class, ReferenceDataCache.class, StatisticsRollupService.class, ImageUtil.class})
+@RecordApplicationEvents
+class SupplierImportServiceTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SupplierImportService supplierImportService;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    @MockBean
+    private ImageReferenceService imageReferenceService;
+
+    private HttpServer server;
+
+    private String baseUrl;
+
+    private User user;
+
+    @TestConfiguration
+    static class Executors {
+
+        @Bean
+        TaskExecutor supplierImportExecutor() {
+            return new SyncTaskExecutor();
+        }
+
+        @Bean
+        TaskExecutor supplierImportJobExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Sirve imágenes en las rutas .png y redirige /redirect/<ruta> a /<ruta>
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            boolean found = exchange.getRequestURI().getPath().endsWith(".png");
+            exchange.sendResponseHeaders(found ? 200 : 404, found ? PNG.length : -1);
+            if (found) exchange.getResponseBody().write(PNG);
+            exchange.close();
+        });
+        server.createContext("/redirect/", exchange -> {
+            exchange.getResponseHeaders().add("Location", exchange.getRequestURI().getPath().substring("/redirect".length()));
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        user = fixtures.base().user();
+        fixtures.flushAndClear();
+
+        // El contexto se comparte entre pruebas, así que se descarta lo armado por la anterior
+        referenceDataCache.onReferenceDataChanged(new ReferenceDataChangedEvent());
+
+        when(imageUploadService.uploadAll(anyList(), eq("proveedores"))).thenAnswer(invocation -> {
+            List<?> files = invocation.getArgument(0);
+            return files.stream()
+                    .map(file -> new UploadedImage("image", "/image", null, null, false))
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void importsValidCsvRowsAndReportsErrors() {
+        String csv = "\uFEFFname,description,shortDescription,phone,email,country,province,city,category,images\n" +
+                "Panadería,\"Pan, facturas y tortas\",Panadería,123456,pan@ecos.com,argentina,Cordoba,Córdoba,ALIMENTOS," +
+                baseUrl + "/a.png|" + baseUrl + "/b.png\n" +
+                "Almacén,Almacén,Almacén,123456,almacen@ecos.com,Argentina,Mendoza,Mendoza,Alimentos," + baseUrl + "/a.png\n" +
+                "\n" +
+                "Huerta,Huerta,Huerta,123456,,Argentina,Córdoba,Córdoba,Alimentos," + baseUrl + "/a.png\n" +
+                "Vivero,Vivero,Vivero,123456,vivero@ecos.com,Argentina,Córdoba,Córdoba,Alimentos," + baseUrl + "/missing\n";
+
+        SupplierImportJobDTO job = supplierImportService.importNow(new StringReader(csv), ImportFormat.CSV, user.getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getProcessed());
+        assertEquals(1, job.getImported());
+        assertEquals(3, job.getFailed());
+        assertEquals(List.of(3L, 5L, 6L), rows(job));
+
+        List<SupplierChangedEvent> changed = events.stream(SupplierChangedEvent.class).toList();
+        assertEquals(1, changed.size());
+
+        Supplier supplier = entityManager.find(Supplier.class, changed.get(0).getSupplierIds().get(0));
+        assertEquals("Pan, facturas y tortas", supplier.getDescription());
+        assertEquals(SupplierStatus.REVISION_INICIAL, supplier.getStatus());
+        assertEquals(user.getId(), supplier.getUser().getId());
+        assertEquals(2, supplier.getImages().size());
+        verify(imageReferenceService).acquire(anyList(), eq("proveedores"));
+    }
+
+    @Test
+    void importsNdjsonInBatches() {
+        String ndjson = row("Uno", "/a.png") + row("Dos", "/a.png") + "{not json}\n" + row("Tres", "/a.png");
+
+        SupplierImportJobDTO job = supplierImportService.importNow(new StringReader(ndjson), ImportFormat.NDJSON, user.getId());
+
+        assertEquals(3, job.getImported());
+        assertEquals(List.of(3L), rows(job));
+        assertEquals(2, events.stream(SupplierChangedEvent.class).count());
+    }
+
+    @Test
+    void reportsLongValuesAndKeepsOnlyFirstErrors() {
+        String ndjson = row("N".repeat(256), "/a.png") +
+                row("I", "/a.png").replace("\"name\"", "\"instagram\":\"" + "i".repeat(256) + "\",\"name\"") +
+                row("F", "/a.png").replace("\"name\"", "\"facebook\":\"" + "f".repeat(255) + "\",\"name\"") +
+                row("", "/a.png");
+
+        ReflectionTestUtils.setField(supplierImportService, "maxErrors", 2);
+        try {
+            SupplierImportJobDTO job = supplierImportService.importNow(new StringReader(ndjson), ImportFormat.NDJSON, user.getId());
+
+            assertEquals(1, job.getImported());
+            assertEquals(3, job.getFailed());
+            assertEquals(List.of("name cannot be longer than 255 characters", "instagram cannot be longer than 255 characters"),
+                    job.getErrors().stream().map(SupplierImportErrorDTO::getError).toList());
+        } finally {
+            ReflectionTestUtils.setField(supplierImportService, "maxErrors", 1000);
+        }
+    }
+
+    @Test
+    void marksJobFailedOnUnexpectedErrors() {
+        Reader broken = new Reader() {
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                throw new IllegalStateException("Broken reader");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        SupplierImportJobDTO job = supplierImportService.importNow(broken, ImportFormat.NDJSON, user.getId());
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertNotNull(job.getFinishedAt());
+        assertEquals("Error importing file: Broken reader", job.getErrors().get(0).getError());
+    }
+
+    @Test
+    void followsRedirectsUpToLimitAndRejectsPrivateHosts() throws Exception {
+        String ndjson = row("Uno", "/redirect/a.png") + row("Dos", "/redirect".repeat(6) + "/a.png");
+
+        SupplierImportJobDTO job = supplierImportService.importNow(new StringReader(ndjson), ImportFormat.NDJSON, user.getId());
+
+        assertEquals(1, job.getImported());
+        assertTrue(job.getErrors().get(0).getError().contains("Too many redirects"));
+
+        ReflectionTestUtils.setField(supplierImportService, "allowPrivateHosts", false);
+        try {
+            job = supplierImportService.importNow(new StringReader(row("Tres", "/a.png")), ImportFormat.NDJSON, user.getId());
+
+            assertEquals("Error loading images: Image host is not allowed: localhost", job.getErrors().get(0).getError());
+            verify(imageUploadService, times(1)).uploadAll(anyList(), eq("proveedores"));
+        } finally {
+            ReflectionTestUtils.setField(supplierImportService, "allowPrivateHosts", true);
+        }
+    }
+
+    private String row(String name, String imagePath) {
+        return ("{\"name\":\"%s\",\"description\":\"D\",\"shortDescription\":\"S\",\"phone\":\"1\",\"email\":\"a@ecos.com\"," +
+                "\"country\":\"Argentina\",\"province\":\"Córdoba\",\"city\":\"C\",\"category\":\"Alimentos\"," +
+                "\"images\":[\"%s\"]}\n").formatted(name, baseUrl + imagePath);
+    }
+
+    private static List<Long> rows(SupplierImportJobDTO job) {
+        return job.getErrors().stream().map(SupplierImportErrorDTO::getRow).toList();
+    }
+}
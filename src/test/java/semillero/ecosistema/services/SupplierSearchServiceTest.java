@@ -0,0 +1,103 @@
+package semillero.ecosistema.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import semillero.ecosistema.entities.Category;
+import semillero.ecosistema.entities.Supplier;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.SupplierRepository;
+import semillero.ecosistema.services.SupplierSearchService.SearchResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SupplierSearchServiceTest {
+
+    private final SupplierRepository supplierRepository = mock(SupplierRepository.class);
+
+    private final SupplierSearchService supplierSearchService = new SupplierSearchService();
+
+    private final Supplier bakery = supplier(1L, "Panadería Don José", "Pan casero y facturas", "Alimentos");
+
+    private final Supplier market = supplier(2L, "Almacén Natural", "Venta de panes integrales", "Alimentos");
+
+    private final Supplier weaver = supplier(3L, "Hilandería del Sur", "Tejidos artesanales", "Textiles");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Sin index-path el índice se guarda en memoria (ByteBuffersDirectory)
+        ReflectionTestUtils.setField(supplierSearchService, "supplierRepository", supplierRepository);
+        supplierSearchService.open();
+
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(supplierRepository.findAllById(ids)).thenReturn(List.of(bakery, market, weaver));
+        supplierSearchService.onSupplierChanged(new SupplierChangedEvent(ids));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        supplierSearchService.close();
+    }
+
+    @Test
+    void ignoresAccentsCaseAndPlurals() throws Exception {
+        assertEquals(List.of(1L), supplierSearchService.search("PANADERIAS", 0, 10).ids());
+        assertEquals(List.of(3L), supplierSearchService.search("hilanderia textil", 0, 10).ids());
+    }
+
+    @Test
+    void ranksNameMatchesFirst() throws Exception {
+        // "pan" aparece en el nombre del primero y solo en la descripción corta del segundo
+        bakery.setName("Pan de Campo");
+        when(supplierRepository.findAllById(List.of(1L))).thenReturn(List.of(bakery));
+        supplierSearchService.onSupplierChanged(new SupplierChangedEvent(List.of(1L)));
+
+        assertEquals(List.of(1L, 2L), supplierSearchService.search("pan", 0, 10).ids());
+    }
+
+    @Test
+    void pagesResultsAndReportsTotal() throws Exception {
+        SearchResult first = supplierSearchService.search("alimentos", 0, 1);
+        SearchResult second = supplierSearchService.search("alimentos", 1, 1);
+        SearchResult beyond = supplierSearchService.search("alimentos", 5, 1);
+
+        assertEquals(2, first.total());
+        assertEquals(1, first.ids().size());
+        assertEquals(1, second.ids().size());
+        assertNotEquals(first.ids(), second.ids());
+        assertEquals(List.of(), beyond.ids());
+    }
+
+    @Test
+    void removesSuppliersThatAreNoLongerAccepted() throws Exception {
+        weaver.setStatus(SupplierStatus.DENEGADO);
+        when(supplierRepository.findAllById(List.of(3L))).thenReturn(List.of(weaver));
+
+        supplierSearchService.onSupplierChanged(new SupplierChangedEvent(List.of(3L)));
+
+        assertEquals(0, supplierSearchService.search("tejidos", 0, 10).total());
+    }
+
+    private static Supplier supplier(Long id, String name, String shortDescription, String categoryName) {
+        Category category = new Category();
+        category.setName(categoryName);
+
+        Supplier supplier = new Supplier();
+        supplier.setId(id);
+        supplier.setName(name);
+        supplier.setShortDescription(shortDescription);
+        supplier.setDescription("Emprendimiento local");
+        supplier.setCity("Córdoba");
+        supplier.setCategory(category);
+        supplier.setStatus(SupplierStatus.ACEPTADO);
+        supplier.setDeleted(false);
+        return supplier;
+    }
+}
@@ -0,0 +1,186 @@
+package semillero.ecosistema.services;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.transaction.TestTransaction;
+import semillero.ecosistema.TestFixtures;
+import semillero.ecosistema.dtos.supplier.SupplierDTO;
+import semillero.ecosistema.dtos.supplier.SupplierFeedbackDTO;
+import semillero.ecosistema.dtos.supplier.SupplierModerationResultDTO;
+import semillero.ecosistema.entities.*;
+import semillero.ecosistema.enumerations.StatisticsMetric;
+import semillero.ecosistema.enumerations.StatisticsPeriod;
+import semillero.ecosistema.enumerations.SupplierStatus;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.repositories.StatisticsRollupRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SupplierService.class, StatisticsRollupService.class})
+@RecordApplicationEvents
+class SupplierServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SupplierService supplierService;
+
+    @Autowired
+    private StatisticsRollupRepository statisticsRollupRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @SpyBean
+    private StatisticsRollupService statisticsRollupService;
+
+    @MockBean
+    private ReferenceDataCache referenceDataCache;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    @MockBean
+    private ImageReferenceService imageReferenceService;
+
+    @MockBean
+    private GeocodingService geocodingService;
+
+    @MockBean
+    private SupplierSearchService supplierSearchService;
+
+    private Supplier first;
+
+    private Supplier second;
+
+    private TestFixtures fixtures;
+
+    private TestFixtures.Base base;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new TestFixtures(entityManager);
+        base = fixtures.base();
+        first = fixtures.supplier("Panadería", SupplierStatus.REVISION_INICIAL, base);
+        second = fixtures.supplier("Almacén", SupplierStatus.REVISION_INICIAL, base);
+        fixtures.flushAndClear();
+    }
+
+    @Test
+    void moderatesBatchAndReportsEachItem() throws Exception {
+        List<SupplierModerationResultDTO> results = supplierService.provideFeedback(List.of(
+                feedback(first.getId(), SupplierStatus.ACEPTADO, null),
+                feedback(second.getId(), SupplierStatus.REQUIERE_CAMBIOS, "Falta el teléfono"),
+                feedback(-1L, SupplierStatus.ACEPTADO, null),
+                feedback(null, SupplierStatus.ACEPTADO, null)
+        ));
+
+        assertEquals(List.of(true, true, false, false),
+                results.stream().map(SupplierModerationResultDTO::getUpdated).collect(Collectors.toList()));
+        assertEquals("Supplier not found", results.get(2).getError());
+
+        entityManager.clear();
+        assertEquals(SupplierStatus.ACEPTADO, entityManager.find(Supplier.class, first.getId()).getStatus());
+        Supplier moderated = entityManager.find(Supplier.class, second.getId());
+        assertEquals(SupplierStatus.REQUIERE_CAMBIOS, moderated.getStatus());
+        assertEquals("Falta el teléfono", moderated.getFeedback());
+
+        Map<String, Long> byStatus = statisticsRollupRepository
+                .findAllByMetricAndPeriodAndPeriodStart(StatisticsMetric.SUPPLIERS_BY_STATUS, StatisticsPeriod.MONTH,
+                        LocalDate.now().withDayOfMonth(1))
+                .stream()
+                .collect(Collectors.toMap(StatisticsRollup::getDimension, StatisticsRollup::getAmount));
+        assertEquals(-2L, byStatus.get(SupplierStatus.REVISION_INICIAL.name()));
+        assertEquals(1L, byStatus.get(SupplierStatus.ACEPTADO.name()));
+
+        List<SupplierChangedEvent> changed = events.stream(SupplierChangedEvent.class).toList();
+        assertEquals(1, changed.size());
+        assertEquals(List.of(first.getId(), second.getId()), changed.get(0).getSupplierIds());
+    }
+
+    @Test
+    void rejectsRepeatedSuppliers() throws Exception {
+        List<SupplierModerationResultDTO> results = supplierService.provideFeedback(List.of(
+                feedback(first.getId(), SupplierStatus.ACEPTADO, null),
+                feedback(first.getId(), SupplierStatus.DENEGADO, null)
+        ));
+
+        assertTrue(results.stream().noneMatch(SupplierModerationResultDTO::getUpdated));
+        assertEquals(0, events.stream(SupplierChangedEvent.class).count());
+    }
+
+    @Test
+    void rollsBackBatchWhenStatisticsFail() {
+        doThrow(new IllegalStateException("Deadlock")).when(statisticsRollupService).recordSupplierStatusChanges(anyList());
+
+        // Se confirman los datos de prueba para que la moderación abra y revierta su propia transacción
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertThrows(Exception.class, () -> supplierService.provideFeedback(List.of(
+                    feedback(first.getId(), SupplierStatus.ACEPTADO, null),
+                    feedback(second.getId(), SupplierStatus.DENEGADO, null)
+            )));
+
+            assertEquals(SupplierStatus.REVISION_INICIAL, entityManager.find(Supplier.class, first.getId()).getStatus());
+            assertEquals(SupplierStatus.REVISION_INICIAL, entityManager.find(Supplier.class, second.getId()).getStatus());
+            assertEquals(0, events.stream(SupplierChangedEvent.class).count());
+        } finally {
+            TestTransaction.start();
+            Supplier supplier = entityManager.find(Supplier.class, first.getId());
+            entityManager.remove(entityManager.find(Supplier.class, second.getId()));
+            entityManager.remove(supplier);
+            entityManager.remove(supplier.getCategory());
+            entityManager.remove(supplier.getProvince());
+            entityManager.remove(supplier.getCountry());
+            entityManager.remove(supplier.getUser());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    void searchSkipsSuppliersNoLongerAcceptedInIndex() throws Exception {
+        Supplier accepted = fixtures.supplier("Panadería del centro", SupplierStatus.ACEPTADO, base);
+        Supplier deleted = fixtures.supplier("Panadería cerrada", SupplierStatus.ACEPTADO, base);
+        deleted.setDeleted(true);
+        fixtures.flushAndClear();
+
+        // El índice todavía devuelve proveedores que ya no son públicos
+        when(supplierSearchService.search("panadería", 0, Integer.MAX_VALUE)).thenReturn(new SupplierSearchService.SearchResult(
+                List.of(first.getId(), deleted.getId(), accepted.getId()), 3));
+
+        assertEquals(List.of(accepted.getId()), supplierService.findAllAcceptedByName("panadería").stream()
+                .map(SupplierDTO::getId)
+                .collect(Collectors.toList()));
+    }
+
+    private SupplierFeedbackDTO feedback(Long id, SupplierStatus status, String text) {
+        SupplierFeedbackDTO dto = new SupplierFeedbackDTO();
+        dto.setId(id);
+        dto.setStatus(status);
+        dto.setFeedback(text);
+        return dto;
+    }
+}
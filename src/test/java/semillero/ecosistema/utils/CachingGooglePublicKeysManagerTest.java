@@ -0,0 +1,91 @@
+package semillero.ecosistema.utils;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingGooglePublicKeysManagerTest {
+
+    // Certificado autofirmado de prueba, con el formato del endpoint de Google: {"kid": "PEM"}
+    private static final String CERTS = "{\"test-key\": \"" +
+            "-----BEGIN CERTIFICATE-----\\n" +
+            "MIIB/DCCAWWgAwIBAgIUFPJ8RyhW1HAbz+GGbM5K2vYyyHgwDQYJKoZIhvcNAQEL\\n" +
+            "BQAwDzENMAsGA1UEAwwEdGVzdDAgFw0yNjEwMTgxMTIzNTZaGA8yMTI2MDkyNDEx\\n" +
+            "MjM1NlowDzENMAsGA1UEAwwEdGVzdDCBnzANBgkqhkiG9w0BAQEFAAOBjQAwgYkC\\n" +
+            "gYEAx1d7gC4lVL/LdY+BwlyyjTtbT1DptkH2/TTMT/F6iXbE15ucoD69kI/MQxi7\\n" +
+            "RJbbZGVRJQWz+crBBmC41JTK+T8cd96hVyLx4mnkuLp0Q74eT0Nwv+pbpWBXxBvc\\n" +
+            "o5g70RNK9F1/lFooEfdR1NCZarzo1Y4HZC1ttDzJtBe285MCAwEAAaNTMFEwHQYD\\n" +
+            "VR0OBBYEFOSySbIShGGGuekehs0UTJjak0YUMB8GA1UdIwQYMBaAFOSySbIShGGG\\n" +
+            "uekehs0UTJjak0YUMA8GA1UdEwEB/wQFMAMBAf8wDQYJKoZIhvcNAQELBQADgYEA\\n" +
+            "I73SZryMX59Swe816jr1grqgC2kctbw9WLok47LflhpkgsyY6Kc1MlMotoPRPS7j\\n" +
+            "Nno+CFhrj14fPpc8OYbWLJVvmER+2ARvamGc7RG6uO5odbLcP3cI6RbRKsLZiWwl\\n" +
+            "jO0vLjev5sNr4BrqtopXxdjkubbevc1E7GGCFB2mCsg=\\n" +
+            "-----END CERTIFICATE-----\\n" +
+            "\"}";
+
+    private final AtomicBoolean available = new AtomicBoolean(true);
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    // Origen local de certificados en lugar del endpoint de Google
+    private final MockHttpTransport transport = new MockHttpTransport() {
+        @Override
+        public MockLowLevelHttpRequest buildRequest(String method, String url) {
+            requests.incrementAndGet();
+            return new MockLowLevelHttpRequest(url) {
+                @Override
+                public MockLowLevelHttpResponse execute() throws IOException {
+                    if (!available.get()) throw new IOException("Connection refused");
+                    return new MockLowLevelHttpResponse()
+                            .setContentType("application/json")
+                            .addHeader("Cache-Control", "public, max-age=3600")
+                            .setContent(CERTS);
+                }
+            };
+        }
+    };
+
+    private final CachingGooglePublicKeysManager manager = new CachingGooglePublicKeysManager(
+            transport, GsonFactory.getDefaultInstance(), "http://localhost/certs", 60_000);
+
+    @Test
+    void cachesKeysForTheCacheControlMaxAge() throws Exception {
+        manager.getPublicKeys();
+        manager.getPublicKeys();
+
+        assertEquals(1, requests.get());
+        assertFalse(manager.isExpiringWithin(600_000));
+        assertTrue(manager.isExpiringWithin(3_600_000));
+    }
+
+    @Test
+    void failsWhenNoKeysWereLoaded() {
+        available.set(false);
+
+        assertThrows(IOException.class, manager::refresh);
+    }
+
+    @Test
+    void keepsPreviousKeysWhenTheEndpointFails() throws Exception {
+        manager.refresh();
+        assertEquals(1, manager.getPublicKeys().size());
+        long expiration = manager.getExpirationTimeMilliseconds();
+        available.set(false);
+
+        manager.refresh();
+        // El reintento espera el tiempo configurado en lugar de volver a consultar el endpoint
+        manager.refresh();
+
+        assertEquals(1, manager.getPublicKeys().size());
+        assertEquals(expiration, manager.getExpirationTimeMilliseconds());
+        assertEquals(2, requests.get());
+    }
+}
@@ -0,0 +1,87 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import semillero.ecosistema.enumerations.ResourceCollection;
+import semillero.ecosistema.events.SupplierChangedEvent;
+import semillero.ecosistema.services.CollectionVersionService;
+import semillero.ecosistema.services.CollectionVersionService.Version;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetInterceptorTest {
+
+    private final CollectionVersionService versions = new CollectionVersionService();
+
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interceptor, "collectionVersionService", versions);
+        ReflectionTestUtils.setField(interceptor, "maxAgeSeconds", 0L);
+        ReflectionTestUtils.setField(interceptor, "sharedMaxAgeSeconds", 60L);
+    }
+
+    @Test
+    void answersNotModifiedWhileCollectionIsUnchanged() throws Exception {
+        String etag = versions.current(ResourceCollection.SUPPLIERS).etag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/suppliers/allAccepted");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, handler("suppliers")));
+        assertEquals(304, response.getStatus());
+        assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals("max-age=0, public, s-maxage=60", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void proceedsAfterCollectionChanges() throws Exception {
+        String etag = versions.current(ResourceCollection.SUPPLIERS).etag();
+        versions.onSupplierChanged(new SupplierChangedEvent(List.of(1L)));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/suppliers/allAccepted");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler("suppliers")));
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+
+        Version version = (Version) request.getAttribute(ConditionalGetInterceptor.VERSION_ATTRIBUTE);
+        assertNotEquals(etag, version.etag());
+        assertTrue(version.lastModified() > 0);
+    }
+
+    @Test
+    void ignoresEndpointsWithoutAnnotation() throws Exception {
+        String etag = versions.current(ResourceCollection.SUPPLIERS).etag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/suppliers/me/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, handler("mine")));
+        assertNull(request.getAttribute(ConditionalGetInterceptor.VERSION_ATTRIBUTE));
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), TestController.class.getMethod(name));
+    }
+
+    static class TestController {
+
+        @ConditionalGet(ResourceCollection.SUPPLIERS)
+        public void suppliers() {
+        }
+
+        public void mine() {
+        }
+    }
+}
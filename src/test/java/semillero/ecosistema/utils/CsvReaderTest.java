@@ -0,0 +1,39 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndLineNumbers() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(
+                "name,description\r\n" +
+                "Panadería,\"Pan, facturas y \"\"tortas\"\"\"\r\n" +
+                "Almacén,\"Primera línea\nsegunda línea\"\n" +
+                "\n" +
+                "Huerta,"));
+
+        assertEquals(List.of("name", "description"), reader.next());
+        assertEquals(2, reader.getLine());
+        assertEquals(List.of("Panadería", "Pan, facturas y \"tortas\""), reader.next());
+        assertEquals(List.of("Almacén", "Primera línea\nsegunda línea"), reader.next());
+        assertEquals(5, reader.getLine());
+        assertEquals(List.of(""), reader.next());
+        assertEquals(List.of("Huerta", ""), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void rejectsUnterminatedQuotes() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("name\n\"Panadería"));
+
+        assertEquals(List.of("name"), reader.next());
+        assertThrows(IOException.class, reader::next);
+    }
+}
@@ -0,0 +1,50 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import semillero.ecosistema.enumerations.ImageRendition;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageResizerTest {
+
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    @Test
+    void scalesLongestSideToEachRendition() throws IOException {
+        Map<ImageRendition, byte[]> renditions = imageResizer.createRenditions(file(2000, 1000, BufferedImage.TYPE_INT_RGB));
+
+        BufferedImage card = ImageIO.read(new ByteArrayInputStream(renditions.get(ImageRendition.CARD)));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(renditions.get(ImageRendition.THUMBNAIL)));
+
+        assertEquals(640, card.getWidth());
+        assertEquals(320, card.getHeight());
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    @Test
+    void keepsSmallImagesAndTransparency() throws IOException {
+        Map<ImageRendition, byte[]> renditions = imageResizer.createRenditions(file(120, 80, BufferedImage.TYPE_INT_ARGB));
+
+        BufferedImage card = ImageIO.read(new ByteArrayInputStream(renditions.get(ImageRendition.CARD)));
+
+        assertEquals(120, card.getWidth());
+        assertEquals(80, card.getHeight());
+        assertTrue(card.getColorModel().hasAlpha());
+    }
+
+    private MockMultipartFile file(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", output);
+        return new MockMultipartFile("image", "image.png", "image/png", output.toByteArray());
+    }
+}
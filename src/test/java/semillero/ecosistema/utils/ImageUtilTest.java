@@ -0,0 +1,57 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import semillero.ecosistema.enumerations.ImageFormat;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageUtilTest {
+
+    private final ImageUtil imageUtil = new ImageUtil();
+
+    @Test
+    void readsFormatAndDimensionsFromHeader() throws IOException {
+        ImageUtil.ImageInfo info = imageUtil.inspect(file("photo.png", image("png", 40, 30))).orElseThrow();
+
+        assertEquals(ImageFormat.PNG, info.format());
+        assertEquals(40, info.width());
+        assertEquals(30, info.height());
+        assertTrue(imageUtil.isValidImage(file("photo.JPG", image("jpg", 10, 10))));
+    }
+
+    @Test
+    void rejectsMismatchedExtension() throws IOException {
+        assertFalse(imageUtil.isValidImage(file("photo.jpg", image("png", 10, 10))));
+    }
+
+    @Test
+    void rejectsUnknownContent() {
+        assertFalse(imageUtil.isValidImage(file("photo.png", "not an image".getBytes())));
+        assertFalse(imageUtil.isValidImage(file("photo.png", new byte[0])));
+    }
+
+    @Test
+    void rejectsOversizedFilesBeforeReadingThem() throws IOException {
+        byte[] png = image("png", 10, 10);
+        byte[] oversized = Arrays.copyOf(png, 5 * 1024 * 1024 + 1);
+
+        assertFalse(imageUtil.isValidImage(file("photo.png", oversized)));
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("image", name, null, content);
+    }
+
+    private static byte[] image(String format, int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,104 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+import semillero.ecosistema.enumerations.UserRole;
+import semillero.ecosistema.events.UserChangedEvent;
+import semillero.ecosistema.services.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final UserService userService = mock(UserService.class);
+
+    private final JwtPrincipalCache principalCache = new JwtPrincipalCache();
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(principalCache, "maxSize", 100);
+        ReflectionTestUtils.setField(principalCache, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(filter, "JWT_SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(filter, "userService", userService);
+        ReflectionTestUtils.setField(filter, "principalCache", principalCache);
+        filter.init();
+
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "JWT_SECRET_KEY", SECRET);
+
+        semillero.ecosistema.entities.User user = new semillero.ecosistema.entities.User();
+        user.setId(7L);
+        user.setName("Test");
+        user.setLastName("User");
+        user.setEmail("test@ecos.com");
+        user.setRole(UserRole.ADMINISTRADOR);
+        token = jwtService.generateTokenForUser(user, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromClaimsWithoutLoadingTheUser() throws Exception {
+        Authentication first = authenticate();
+        Authentication second = authenticate();
+
+        assertEquals("test@ecos.com", first.getName());
+        assertEquals("ADMINISTRADOR", first.getAuthorities().iterator().next().getAuthority());
+        assertSame(first.getPrincipal(), second.getPrincipal());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void reloadsUsersChangedAfterTheTokenWasIssued() throws Exception {
+        authenticate();
+        principalCache.onUserChanged(new UserChangedEvent(7L));
+        when(userService.loadUserByUsername("test@ecos.com"))
+                .thenReturn(new User("test@ecos.com", "", false, true, true, true, List.of()));
+
+        assertNull(authenticate());
+        assertNull(authenticate());
+        verify(userService, times(1)).loadUserByUsername("test@ecos.com");
+    }
+
+    @Test
+    void reloadsTokensIssuedBeforeStartupOnce() throws Exception {
+        ReflectionTestUtils.setField(principalCache, "startedAt", System.currentTimeMillis() + 60_000);
+        when(userService.loadUserByUsername("test@ecos.com"))
+                .thenReturn(new User("test@ecos.com", "", List.of(() -> "USUARIO_REGULAR")));
+
+        assertEquals("USUARIO_REGULAR", authenticate().getAuthorities().iterator().next().getAuthority());
+        assertEquals("USUARIO_REGULAR", authenticate().getAuthorities().iterator().next().getAuthority());
+        verify(userService, times(1)).loadUserByUsername("test@ecos.com");
+    }
+
+    private Authentication authenticate() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/suppliers");
+        request.setServletPath("/api/suppliers");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
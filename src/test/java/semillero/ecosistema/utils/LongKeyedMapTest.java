@@ -0,0 +1,22 @@
+package semillero.ecosistema.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongKeyedMapTest {
+
+    @Test
+    void findsValuesByPrimitiveKey() {
+        LongKeyedMap<String> map = LongKeyedMap.of(List.of("30", "5", "12", "5"), Long::parseLong, value -> "v" + value);
+
+        assertEquals(3, map.size());
+        assertEquals("v5", map.get(5));
+        assertEquals("v30", map.get(30));
+        assertNull(map.get(7));
+        assertNull(LongKeyedMap.<String>empty().get(1));
+    }
+}